@@ -0,0 +1,120 @@
+package airlinesystem.concurrent;
+
+import airlinesystem.model.Flight;
+import airlinesystem.model.Itinerary;
+import airlinesystem.model.Plane;
+import airlinesystem.model.Route;
+import airlinesystem.model.Staff;
+import airlinesystem.service.ConnectionSearchEngine;
+import airlinesystem.service.FlightManager;
+import airlinesystem.service.SeatManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Aktarmalı arama ölçümü: AIRPORTS havalimanı arasında DAYS güne yayılmış FLIGHTS rastgele
+ * uçuşluk bir ağda, rastgele şehir çiftleri için bir günlük pencerede en fazla MAX_LEGS
+ * bacaklı arama. Sorgu başına medyan ve en kötü süre yazılır; aramanın koltuk envanteri
+ * oluşturmadığı da kontrol edilir.
+ *
+ * Çalıştırma: java airlinesystem.concurrent.ConnectionSearchBenchmark
+ */
+public class ConnectionSearchBenchmark {
+
+    private static final int FLIGHTS = 50_000;
+    private static final int AIRPORTS = 200;
+    private static final int DAYS = 30;
+    private static final int MAX_LEGS = 3;
+    private static final int QUERIES = 50;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int ROUNDS = 5;
+
+    // JIT'in sonucu atmasını engellemek için
+    private static long sink;
+
+    public static void main(String[] args) {
+        FlightManager flightManager = new FlightManager();
+        SeatManager seatManager = new SeatManager();
+        LocalDate firstDay = LocalDate.now().plusDays(1);
+
+        long t0 = System.nanoTime();
+        createFlights(flightManager, firstDay);
+        System.out.printf("%,d flights over %d airports indexed in %,d ms%n",
+                FLIGHTS, AIRPORTS, (System.nanoTime() - t0) / 1_000_000);
+
+        ConnectionSearchEngine engine = new ConnectionSearchEngine(flightManager, seatManager);
+        Random random = new Random(7);
+        String[][] pairs = new String[QUERIES][];
+        LocalDateTime[] windows = new LocalDateTime[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            int origin = random.nextInt(AIRPORTS);
+            int destination = (origin + 1 + random.nextInt(AIRPORTS - 1)) % AIRPORTS;
+            pairs[i] = new String[] {airport(origin), airport(destination)};
+            windows[i] = firstDay.plusDays(random.nextInt(DAYS - 3)).atStartOfDay();
+        }
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            runQueries(engine, pairs, windows, null);
+        }
+        double[] millis = new double[QUERIES * ROUNDS];
+        long itineraries = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            double[] round = new double[QUERIES];
+            itineraries = runQueries(engine, pairs, windows, round);
+            System.arraycopy(round, 0, millis, i * QUERIES, QUERIES);
+        }
+        Arrays.sort(millis);
+
+        int inventories = 0;
+        for (int i = 0; i < FLIGHTS; i++) {
+            if (seatManager.findInventory("CX" + i) != null) {
+                inventories++;
+            }
+        }
+
+        System.out.printf("%d-leg search, %d queries x %d rounds: median %.2f ms, p95 %.2f ms, max %.2f ms%n",
+                MAX_LEGS, QUERIES, ROUNDS, millis[millis.length / 2],
+                millis[(int) (millis.length * 0.95)], millis[millis.length - 1]);
+        System.out.printf("itineraries per round: %,d, seat inventories created by search: %d%n",
+                itineraries, inventories);
+    }
+
+    private static void createFlights(FlightManager flightManager, LocalDate firstDay) {
+        Staff admin = new Staff("S001", "Bench", "Admin", "bench@gmail.com", "benchadmin", "123456", "ADMIN");
+        Plane plane = new Plane("CX", "BenchPlane", 30, 6);
+        Random random = new Random(42);
+        for (int i = 0; i < FLIGHTS; i++) {
+            int origin = random.nextInt(AIRPORTS);
+            int destination = (origin + 1 + random.nextInt(AIRPORTS - 1)) % AIRPORTS;
+            LocalDate date = firstDay.plusDays(random.nextInt(DAYS));
+            LocalTime time = LocalTime.of(random.nextInt(24), random.nextInt(60));
+            flightManager.addFlight(admin, new Flight("CX" + i, new Route(airport(origin), airport(destination)),
+                    plane, date, time, 60 + random.nextInt(180), 1000.0));
+        }
+    }
+
+    private static long runQueries(ConnectionSearchEngine engine, String[][] pairs,
+                                   LocalDateTime[] windows, double[] millis) {
+        long found = 0;
+        for (int i = 0; i < pairs.length; i++) {
+            long t0 = System.nanoTime();
+            List<Itinerary> result = engine.search(pairs[i][0], pairs[i][1],
+                    windows[i], windows[i].plusDays(1), MAX_LEGS, 1);
+            if (millis != null) {
+                millis[i] = (System.nanoTime() - t0) / 1_000_000.0;
+            }
+            found += result.size();
+        }
+        sink += found;
+        return found;
+    }
+
+    private static String airport(int i) {
+        return "AP" + i;
+    }
+}
@@ -0,0 +1,16 @@
+package airlinesystem.concurrent;
+
+/**
+ * GroupCommitWriter'ın bir kaydı ne zaman "kalıcı" saydığı.
+ */
+public enum DurabilityMode {
+
+    /** Her toplu yazmadan sonra fsync; future'lar fsync bitince tamamlanır. */
+    SYNC_EVERY_COMMIT,
+
+    /** Yazma hemen, fsync en fazla belirli aralıklarla; future'lar o fsync'te tamamlanır. */
+    SYNC_INTERVAL,
+
+    /** fsync yok; future'lar veri işletim sistemine yazılınca tamamlanır (süreç çökmesine dayanır, elektrik kesintisine değil). */
+    OS_BUFFERED
+}
@@ -0,0 +1,122 @@
+package airlinesystem.concurrent;
+
+import airlinesystem.model.Flight;
+import airlinesystem.model.Plane;
+import airlinesystem.model.Route;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Uçuş zamanı karşılaştırmalarının ölçümü (1M uçuş):
+ * eski yol (her çağrıda LocalDateTime.of + uçuş başına LocalDateTime.now) ile
+ * Flight'ın önceden hesaplanmış epoch saniyesi üzerinden long karşılaştırma.
+ * Geçiş başına süre ve uçuş başına ayrılan byte yazılır.
+ *
+ * Çalıştırma: java airlinesystem.concurrent.FlightTimeBenchmark
+ */
+public class FlightTimeBenchmark {
+
+    private static final int FLIGHTS = 1_000_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int ROUNDS = 5;
+
+    // JIT'in sonucu atmasını engellemek için
+    private static long sink;
+
+    public static void main(String[] args) {
+        List<Flight> flights = createFlights();
+
+        System.out.println("path                   |  ms/pass | bytes/flight");
+        report("legacy future filter", flights, FlightTimeBenchmark::legacyCountFuture);
+        report("epoch future filter", flights, FlightTimeBenchmark::countFuture);
+        report("legacy sort", flights, list -> sortedHead(list, Comparator.comparing(
+                (Flight f) -> LocalDateTime.of(f.getDate(), f.getTime()))));
+        report("epoch sort", flights, list -> sortedHead(list,
+                Comparator.comparingLong(Flight::getDepartureEpochSecond)));
+    }
+
+    private interface Pass {
+        long apply(List<Flight> flights);
+    }
+
+    private static List<Flight> createFlights() {
+        Random random = new Random(42);
+        Plane plane = new Plane("BT", "BenchPlane", 30, 6);
+        Route route = new Route("IST", "ESB");
+        LocalDate today = LocalDate.now();
+
+        List<Flight> flights = new ArrayList<>(FLIGHTS);
+        for (int i = 0; i < FLIGHTS; i++) {
+            // yarısı geçmişte, yarısı gelecekte
+            LocalDate date = today.plusDays(random.nextInt(365) - 182);
+            LocalTime time = LocalTime.of(random.nextInt(24), random.nextInt(60));
+            flights.add(new Flight("BT" + i, route, plane, date, time, 60, 1000.0));
+        }
+        Collections.shuffle(flights, random);
+        return flights;
+    }
+
+    private static void report(String name, List<Flight> flights, Pass pass) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += pass.apply(flights);
+        }
+
+        double bestMillis = Double.MAX_VALUE;
+        long bytesBefore = allocatedBytes();
+        for (int i = 0; i < ROUNDS; i++) {
+            long t0 = System.nanoTime();
+            sink += pass.apply(flights);
+            bestMillis = Math.min(bestMillis, (System.nanoTime() - t0) / 1_000_000.0);
+        }
+        long bytes = allocatedBytes() - bytesBefore;
+
+        String bytesPerFlight = bytesBefore < 0 ? "n/a" : String.format("%.1f", bytes / (double) (ROUNDS * FLIGHTS));
+        System.out.printf("%-22s | %8.1f | %s%n", name, bestMillis, bytesPerFlight);
+    }
+
+    /**
+     * Değişiklikten önceki isPast(): her uçuş için iki LocalDateTime.
+     */
+    private static long legacyCountFuture(List<Flight> flights) {
+        long count = 0;
+        for (Flight f : flights) {
+            if (!LocalDateTime.of(f.getDate(), f.getTime()).isBefore(LocalDateTime.now())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static long countFuture(List<Flight> flights) {
+        long now = Flight.currentEpochSecond();
+        long count = 0;
+        for (Flight f : flights) {
+            if (!f.isDepartedBy(now)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static long sortedHead(List<Flight> flights, Comparator<Flight> order) {
+        List<Flight> copy = new ArrayList<>(flights);
+        copy.sort(order);
+        return copy.get(0).getDepartureEpochSecond();
+    }
+
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,376 @@
+package airlinesystem.concurrent;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bir dosyaya (ör. rezervasyon journal'ı) eşzamanlı eklemeleri tek thread'de toplu yazan
+ * group-commit yazıcı.
+ *
+ * append() sadece kuyruğa koyar ve bir future döner; çağıran thread disk beklemez.
+ * Worker kuyrukta biriken tüm kayıtları tek write + (moda göre) tek fsync ile yazar ve
+ * o gruptaki herkesin future'ını birlikte tamamlar: yük arttıkça grup büyür, fsync sayısı
+ * kayıt sayısıyla değil zamanla orantılı kalır. Kayıtlar kuyruğa giriş sırasıyla yazılır.
+ */
+public class GroupCommitWriter {
+
+    private static final int WORKER_INIT = 0;
+    private static final int WORKER_STARTED = 1;
+    private static final int WORKER_SHUTDOWN = 2;
+
+    // Tek seferde işlenecek en fazla istek (çok büyük tamponları önlemek için)
+    private static final int MAX_BATCH = 8192;
+
+    private final Path path;
+    private final DurabilityMode mode;
+    private final long syncIntervalNanos;
+    private final BlockingQueue<Request> queue = new LinkedBlockingQueue<>();
+    private final AtomicInteger workerState = new AtomicInteger(WORKER_INIT);
+    private final Thread worker;
+
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong syncCount = new AtomicLong();
+
+    // sadece worker thread okur/yazar
+    private FileChannel channel;
+    private final List<CompletableFuture<Void>> unsynced = new ArrayList<>();
+    private boolean dirty; // son fsync'ten sonra yazıldı mı
+    private long lastSync = System.nanoTime();
+
+    /**
+     * @param path               yazılacak dosya (yoksa oluşturulur, hep sonuna eklenir)
+     * @param mode               kalıcılık modu
+     * @param syncIntervalMillis SYNC_INTERVAL modunda iki fsync arası en fazla süre
+     * @param threadName         worker thread adı
+     */
+    public GroupCommitWriter(Path path, DurabilityMode mode, long syncIntervalMillis, String threadName) {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null");
+        }
+        if (mode == null) {
+            throw new IllegalArgumentException("Durability mode cannot be null");
+        }
+        if (mode == DurabilityMode.SYNC_INTERVAL && syncIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Sync interval must be positive");
+        }
+        this.path = path;
+        this.mode = mode;
+        this.syncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, syncIntervalMillis));
+        this.worker = new Thread(this::runWorker, threadName == null ? "group-commit-writer" : threadName);
+        this.worker.setDaemon(true);
+    }
+
+    /**
+     * records'u dosyanın sonuna eklenmek üzere kuyruğa koyar. Future, kayıt moda göre kalıcı
+     * olduğunda tamamlanır; yazma hatasında IOException ile istisnai tamamlanır.
+     */
+    public CompletableFuture<Void> append(CharSequence records) {
+        if (records == null) {
+            throw new IllegalArgumentException("Records cannot be null");
+        }
+        return submit(new Request(Request.APPEND, records));
+    }
+
+    /**
+     * Önceki tüm kayıtlar yazılıp diske zorlandığında tamamlanır (moddan bağımsız).
+     */
+    public CompletableFuture<Void> flush() {
+        if (workerState.get() == WORKER_INIT) {
+            return CompletableFuture.completedFuture(null); // henüz hiç yazılmadı
+        }
+        return submit(new Request(Request.FLUSH, null));
+    }
+
+    /**
+     * Önceki kayıtları yazıp diske zorlar ve dosyayı target'a taşır (target zaten varsa
+     * içeriği onun sonuna eklenir); sonraki append'ler yeni, boş bir dosyaya gider.
+     * Compaction eski journal'ı bu şekilde ayırır, yeni kayıtlar beklemeden devam eder.
+     */
+    public CompletableFuture<Void> rotate(Path target) {
+        if (target == null) {
+            throw new IllegalArgumentException("Target path cannot be null");
+        }
+        Request rotate = new Request(Request.ROTATE, null);
+        rotate.target = target;
+        return submit(rotate);
+    }
+
+    /**
+     * Bekleyen kayıtları yazıp diske zorlar ve worker'ı durdurur. Sonraki append'ler reddedilir.
+     */
+    public void close() {
+        int state = workerState.getAndSet(WORKER_SHUTDOWN);
+        if (state == WORKER_STARTED) {
+            Request close = new Request(Request.CLOSE, null);
+            queue.add(close);
+            close.future.join();
+        }
+    }
+
+    public DurabilityMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Şimdiye kadar yapılan toplu yazma sayısı.
+     */
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    /**
+     * Şimdiye kadar yapılan fsync sayısı.
+     */
+    public long getSyncCount() {
+        return syncCount.get();
+    }
+
+    private CompletableFuture<Void> submit(Request request) {
+        start();
+        queue.add(request);
+        // close() tam bu arada çalıştıysa istek işlenmeyebilir
+        if (workerState.get() != WORKER_STARTED && queue.remove(request)) {
+            throw new IllegalStateException("Writer is closed");
+        }
+        return request.future;
+    }
+
+    private void start() {
+        switch (workerState.get()) {
+            case WORKER_INIT:
+                if (workerState.compareAndSet(WORKER_INIT, WORKER_STARTED)) {
+                    worker.start();
+                }
+                break;
+            case WORKER_STARTED:
+                break;
+            default:
+                throw new IllegalStateException("Writer is closed");
+        }
+    }
+
+    private void runWorker() {
+        List<Request> batch = new ArrayList<>();
+        try {
+            while (true) {
+                Request first;
+                if (mode == DurabilityMode.SYNC_INTERVAL && !unsynced.isEmpty()) {
+                    long wait = lastSync + syncIntervalNanos - System.nanoTime();
+                    first = queue.poll(Math.max(0, wait), TimeUnit.NANOSECONDS);
+                    if (first == null) {
+                        sync(); // aralık doldu
+                        continue;
+                    }
+                } else {
+                    first = queue.take();
+                }
+
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH - 1);
+                boolean closed = process(batch);
+                batch.clear();
+                if (closed) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Bir grup isteği sırayla işler; CLOSE görülürse true döner.
+     */
+    private boolean process(List<Request> batch) {
+        StringBuilder text = new StringBuilder();
+        List<CompletableFuture<Void>> written = new ArrayList<>();
+
+        for (Request r : batch) {
+            if (r.kind == Request.APPEND) {
+                text.append(r.records);
+                written.add(r.future);
+                continue;
+            }
+
+            // FLUSH / ROTATE / CLOSE: önce biriken kayıtlar yazılıp diske zorlanır
+            write(text, written);
+            sync();
+            try {
+                if (r.kind == Request.ROTATE || r.kind == Request.CLOSE) {
+                    closeChannel();
+                }
+                if (r.kind == Request.ROTATE) {
+                    moveTo(r.target);
+                }
+                r.future.complete(null);
+            } catch (IOException e) {
+                r.future.completeExceptionally(e);
+            }
+            if (r.kind == Request.CLOSE) {
+                return true;
+            }
+        }
+
+        write(text, written);
+        if (mode == DurabilityMode.SYNC_EVERY_COMMIT
+                || (mode == DurabilityMode.SYNC_INTERVAL && System.nanoTime() - lastSync >= syncIntervalNanos)) {
+            sync();
+        } else if (mode == DurabilityMode.OS_BUFFERED) {
+            completeUnsynced();
+        }
+        return false;
+    }
+
+    /**
+     * Biriken metni tek write ile yazar; future'lar unsynced listesine geçer.
+     */
+    private void write(StringBuilder text, List<CompletableFuture<Void>> written) {
+        if (written.isEmpty()) {
+            return;
+        }
+        try {
+            if (channel == null) {
+                // READ ile APPEND birlikte açılamaz; dosyaya yalnız bu thread yazdığı için sona konumlanmak yeterli
+                channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE);
+                terminateLastLine(channel);
+            }
+            ByteBuffer bytes = StandardCharsets.UTF_8.encode(CharBuffer.wrap(text));
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            batchCount.incrementAndGet();
+            dirty = true;
+            unsynced.addAll(written);
+        } catch (IOException e) {
+            for (CompletableFuture<Void> f : written) {
+                f.completeExceptionally(e);
+            }
+            // yazma yarıda kalmış olabilir: dosya bir sonraki yazmada yeniden açılır ve
+            // terminateLastLine yarım satırı kapatır. Henüz fsync'lenmemiş önceki kayıtların
+            // kalıcılığı da artık bilinmiyor.
+            for (CompletableFuture<Void> f : unsynced) {
+                f.completeExceptionally(e);
+            }
+            unsynced.clear();
+            dirty = false;
+            try {
+                closeChannel();
+            } catch (IOException ignored) {
+                channel = null;
+            }
+        }
+        text.setLength(0);
+        written.clear();
+    }
+
+    private void sync() {
+        lastSync = System.nanoTime();
+        if (!dirty || channel == null) {
+            completeUnsynced();
+            return;
+        }
+        try {
+            channel.force(false);
+            dirty = false;
+            syncCount.incrementAndGet();
+            completeUnsynced();
+        } catch (IOException e) {
+            for (CompletableFuture<Void> f : unsynced) {
+                f.completeExceptionally(e);
+            }
+            unsynced.clear();
+        }
+    }
+
+    private void completeUnsynced() {
+        for (CompletableFuture<Void> f : unsynced) {
+            f.complete(null);
+        }
+        unsynced.clear();
+    }
+
+    private void moveTo(Path target) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        if (!Files.exists(target)) {
+            try {
+                Files.move(path, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(path, target);
+            }
+            return;
+        }
+        // önceki rotasyonun dosyası hâlâ duruyor (ör. compaction yarıda kaldı): kayıtları sırayla birleştir
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.READ, StandardOpenOption.WRITE);
+             FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+            terminateLastLine(out);
+            long size = in.size();
+            long copied = 0;
+            while (copied < size) {
+                copied += in.transferTo(copied, size - copied, out);
+            }
+            out.force(false);
+        }
+        Files.delete(path);
+    }
+
+    /**
+     * Dosya satır ortasında bitiyorsa (çökme ya da yarıda kalan yazma) bir satır sonu ekler ve
+     * kanalı dosyanın sonuna konumlar; böylece yeni kayıt yarım parçaya yapışmaz, parça okurken
+     * ayrı bir bozuk satır olarak atlanır.
+     */
+    private static void terminateLastLine(FileChannel c) throws IOException {
+        long size = c.size();
+        if (size > 0) {
+            ByteBuffer last = ByteBuffer.allocate(1);
+            c.read(last, size - 1);
+            if (last.get(0) != '\n') {
+                c.write(ByteBuffer.wrap(new byte[] {'\n'}), size);
+            }
+        }
+        c.position(c.size());
+    }
+
+    private void closeChannel() throws IOException {
+        if (channel != null) {
+            FileChannel c = channel;
+            channel = null;
+            c.close();
+        }
+    }
+
+    private static final class Request {
+        static final int APPEND = 0;
+        static final int FLUSH = 1;
+        static final int ROTATE = 2;
+        static final int CLOSE = 3;
+
+        final int kind;
+        final CharSequence records;
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        Path target; // ROTATE için
+
+        Request(int kind, CharSequence records) {
+            this.kind = kind;
+            this.records = records;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package airlinesystem.concurrent;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Çok sayıda kısa ömürlü zamanlayıcıyı (ör. koltuk hold süreleri) tek bir thread ile yöneten
+ * hashed timing wheel. Her zamanlayıcı için ayrı thread veya ScheduledFuture açılmaz:
+ * süresi dolacak işler "tick" başına bir bucket'a düşer, worker thread her tick'te
+ * sadece o bucket'ı gezer.
+ *
+ * schedule() ve cancel() lock-free'dir; bucket'lara yalnızca worker thread dokunur.
+ * Hassasiyet tick süresi kadardır (iş, deadline'dan en fazla bir tick sonra çalışır).
+ */
+public class HashedTimingWheel {
+
+    private static final int WORKER_INIT = 0;
+    private static final int WORKER_STARTED = 1;
+    private static final int WORKER_SHUTDOWN = 2;
+
+    // Bir tick'te bucket'lara aktarılacak en fazla yeni iş (uzun tick'leri önlemek için)
+    private static final int MAX_TRANSFER_PER_TICK = 100_000;
+
+    private final long tickNanos;
+    private final int mask;
+    private final ArrayDeque<Timeout>[] wheel;
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger workerState = new AtomicInteger(WORKER_INIT);
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final Thread worker;
+    private final long startTime;
+
+    // sadece worker thread okur/yazar
+    private long tick;
+
+    /**
+     * @param tickDuration bir tick'in süresi (hassasiyet)
+     * @param unit         tickDuration birimi
+     * @param wheelSize    bucket sayısı; 2'nin kuvvetine yuvarlanır
+     * @param threadName   worker thread adı
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public HashedTimingWheel(long tickDuration, TimeUnit unit, int wheelSize, String threadName) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("Tick duration must be positive");
+        }
+        if (unit == null) {
+            throw new IllegalArgumentException("Time unit cannot be null");
+        }
+        if (wheelSize <= 0 || wheelSize > (1 << 30)) {
+            throw new IllegalArgumentException("Wheel size must be between 1 and 2^30");
+        }
+
+        int size = Integer.highestOneBit(wheelSize);
+        if (size < wheelSize) {
+            size <<= 1;
+        }
+
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.mask = size - 1;
+        this.wheel = new ArrayDeque[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+
+        this.startTime = System.nanoTime();
+        this.worker = new Thread(this::runWorker, threadName == null ? "timing-wheel" : threadName);
+        this.worker.setDaemon(true);
+    }
+
+    /**
+     * task'ı delay sonra worker thread'de çalıştırır. Worker ilk çağrıda başlatılır.
+     * Task kısa sürmeli; uzun iş wheel'in diğer zamanlayıcılarını geciktirir.
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (task == null) {
+            throw new IllegalArgumentException("Task cannot be null");
+        }
+        if (unit == null) {
+            throw new IllegalArgumentException("Time unit cannot be null");
+        }
+        start();
+
+        long deadline = System.nanoTime() - startTime + Math.max(0, unit.toNanos(delay));
+        Timeout timeout = new Timeout(this, task, deadline);
+        activeCount.incrementAndGet();
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Henüz çalışmamış ve iptal edilmemiş zamanlayıcı sayısı.
+     */
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+
+    /**
+     * Worker thread'i durdurur; bekleyen zamanlayıcılar çalıştırılmaz.
+     */
+    public void stop() {
+        if (workerState.getAndSet(WORKER_SHUTDOWN) == WORKER_STARTED) {
+            worker.interrupt();
+        }
+    }
+
+    private void start() {
+        switch (workerState.get()) {
+            case WORKER_INIT:
+                if (workerState.compareAndSet(WORKER_INIT, WORKER_STARTED)) {
+                    worker.start();
+                }
+                break;
+            case WORKER_STARTED:
+                break;
+            default:
+                throw new IllegalStateException("Timing wheel is stopped");
+        }
+    }
+
+    private void runWorker() {
+        while (workerState.get() == WORKER_STARTED) {
+            if (waitForNextTick() < 0) {
+                break;
+            }
+            transferPendingTimeouts();
+            expireTimeouts(wheel[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    /**
+     * Bir sonraki tick'in zamanına kadar uyur.
+     * @return startTime'a göre şimdiki zaman, durdurulduysa -1
+     */
+    private long waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long current = System.nanoTime() - startTime;
+            long sleepMillis = (deadline - current + 999_999) / 1_000_000;
+            if (sleepMillis <= 0) {
+                return current;
+            }
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                if (workerState.get() == WORKER_SHUTDOWN) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void transferPendingTimeouts() {
+        for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+            Timeout timeout = pendingTimeouts.poll();
+            if (timeout == null) {
+                break;
+            }
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+
+            // deadline geçmişse bu tick'te çalışsın
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void expireTimeouts(ArrayDeque<Timeout> bucket) {
+        Iterator<Timeout> it = bucket.iterator();
+        while (it.hasNext()) {
+            Timeout timeout = it.next();
+            if (timeout.isCancelled()) {
+                it.remove();
+            } else if (timeout.remainingRounds <= 0) {
+                // bucket = deadline / tickNanos olduğundan burada deadline <= now garanti
+                it.remove();
+                timeout.expire();
+            } else {
+                timeout.remainingRounds--;
+            }
+        }
+    }
+
+    /**
+     * schedule() tarafından dönen tutamaç; cancel() ile iş çalışmadan iptal edilebilir.
+     */
+    public static final class Timeout {
+
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private final HashedTimingWheel timer;
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(ST_INIT);
+
+        // sadece worker thread
+        private long remainingRounds;
+
+        private Timeout(HashedTimingWheel timer, Runnable task, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * @return iş henüz çalışmamıştı ve bu çağrı iptal ettiyse true
+         */
+        public boolean cancel() {
+            if (state.compareAndSet(ST_INIT, ST_CANCELLED)) {
+                timer.activeCount.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == ST_CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state.get() == ST_EXPIRED;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+            timer.activeCount.decrementAndGet();
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                // tek bir hatalı iş worker thread'i öldürmesin
+                System.err.println("Timer task failed: " + e.getMessage());
+            }
+        }
+    }
+}
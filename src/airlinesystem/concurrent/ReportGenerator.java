@@ -1,106 +1,112 @@
-package airlinesystem.concurrent;
-
-import airlinesystem.model.Flight;
-import airlinesystem.model.Reservation;
-import airlinesystem.service.FlightManager;
-import airlinesystem.service.ReservationManager;
-
-import java.util.List;
-
-/**
- * Uzun süren rapor hesaplamasını (örneğin tüm uçuşların doluluk oranı)
- * ana GUI thread'ini bloklamadan yapmak için ayrı bir thread'te çalıştırılan sınıf.
- */
-public class ReportGenerator implements Runnable {
-
-    private final FlightManager flightManager;
-    private final ReservationManager reservationManager;
-    private final ReportListener listener;
-    private final long artificialDelayMillis;
-
-    /**
-     * @param flightManager      Tüm uçuşlara erişmek için.
-     * @param reservationManager Rezervasyonlara erişmek için.
-     * @param listener           Rapor hazır olduğunda çağrılacak callback.
-     * @param artificialDelayMillis Hesaplama sırasında bekleme süresi (GUI'de "uzun işlem" simüle etmek için).
-     */
-    public ReportGenerator(FlightManager flightManager,
-                           ReservationManager reservationManager,
-                           ReportListener listener,
-                           long artificialDelayMillis) {
-        if (flightManager == null || reservationManager == null || listener == null) {
-            throw new IllegalArgumentException("flightManager, reservationManager ve listener null olamaz");
-        }
-        this.flightManager = flightManager;
-        this.reservationManager = reservationManager;
-        this.listener = listener;
-        this.artificialDelayMillis = artificialDelayMillis;
-    }
-
-    @Override
-    public void run() {
-        try {
-            // Uzun süren işlem simülasyonu
-            if (artificialDelayMillis > 0) {
-                Thread.sleep(artificialDelayMillis);
-            }
-
-            String report = generateOccupancyReport();
-
-            // Rapor hazır; GUI'ye / dinleyiciye haber ver
-            listener.onReportReady(report);
-
-        } catch (InterruptedException e) {
-            // Gerçek sistemde logging yapılır; burada basitçe rapor veriyoruz
-            listener.onReportReady("Report generation was interrupted: " + e.getMessage());
-            Thread.currentThread().interrupt();
-        }
-    }
-
-    /**
-     * Her bir uçuş için:
-     * - kapasite
-     * - aktif rezervasyon sayısı
-     * - doluluk oranı (%)
-     * hesaplayıp String rapor döner.
-     */
-    private String generateOccupancyReport() {
-        StringBuilder sb = new StringBuilder();
-        sb.append("=== Flight Occupancy Report ===\n");
-
-        List<Flight> flights = flightManager.getFlights();
-        List<Reservation> reservations = reservationManager.getReservations();
-
-        if (flights.isEmpty()) {
-            sb.append("No flights found.\n");
-            return sb.toString();
-        }
-
-        for (Flight f : flights) {
-            int capacity = f.getFlightPlane().getPlaneCapacity();
-            int reservedCount = 0;
-
-            for (Reservation r : reservations) {
-                if (r.isActive() && r.getFlight() == f) {
-                    reservedCount++;
-                }
-            }
-
-            double occupancy = capacity == 0
-                    ? 0.0
-                    : reservedCount * 100.0 / capacity;
-
-            sb.append(String.format(
-                    "Flight %s (%s -> %s) : %d / %d (%.2f%%)\n",
-                    f.getFlightNum(),
-                    f.getFlightRoute().getDeparturePlace(),
-                    f.getFlightRoute().getArrivalPlace(),
-                    reservedCount,
-                    capacity,
-                    occupancy
-            ));
-        }
-
-        return sb.toString();
-    }
-}
+package airlinesystem.concurrent;
+
+import airlinesystem.model.Flight;
+import airlinesystem.model.SeatClass;
+import airlinesystem.service.FlightManager;
+import airlinesystem.service.ReservationManager;
+
+import java.util.List;
+
+/**
+ * Uzun süren rapor hesaplamasını (örneğin tüm uçuşların doluluk oranı)
+ * ana GUI thread'ini bloklamadan yapmak için ayrı bir thread'te çalıştırılan sınıf.
+ */
+public class ReportGenerator implements Runnable {
+
+    private final FlightManager flightManager;
+    private final ReservationManager reservationManager;
+    private final ReportListener listener;
+    private final long artificialDelayMillis;
+
+    /**
+     * @param flightManager      Tüm uçuşlara erişmek için.
+     * @param reservationManager Rezervasyonlara erişmek için.
+     * @param listener           Rapor hazır olduğunda çağrılacak callback.
+     * @param artificialDelayMillis Hesaplama sırasında bekleme süresi (GUI'de "uzun işlem" simüle etmek için).
+     */
+    public ReportGenerator(FlightManager flightManager,
+                           ReservationManager reservationManager,
+                           ReportListener listener,
+                           long artificialDelayMillis) {
+        if (flightManager == null || reservationManager == null || listener == null) {
+            throw new IllegalArgumentException("flightManager, reservationManager ve listener null olamaz");
+        }
+        this.flightManager = flightManager;
+        this.reservationManager = reservationManager;
+        this.listener = listener;
+        this.artificialDelayMillis = artificialDelayMillis;
+    }
+
+    @Override
+    public void run() {
+        try {
+            // Uzun süren işlem simülasyonu
+            if (artificialDelayMillis > 0) {
+                Thread.sleep(artificialDelayMillis);
+            }
+
+            String report = generateOccupancyReport();
+
+            // Rapor hazır; GUI'ye / dinleyiciye haber ver
+            listener.onReportReady(report);
+
+        } catch (InterruptedException e) {
+            // Gerçek sistemde logging yapılır; burada basitçe rapor veriyoruz
+            listener.onReportReady("Report generation was interrupted: " + e.getMessage());
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Her bir uçuş için:
+     * - kapasite
+     * - aktif rezervasyon sayısı (ve kabin sınıfına göre dağılımı)
+     * - doluluk oranı (%)
+     * hesaplayıp String rapor döner.
+     * Sayılar ReservationManager'ın uçuş başına sayaçlarından okunur; rezervasyonlar
+     * taranmaz, rapor uçuş sayısıyla doğrusal (O(F)) büyür.
+     */
+    private String generateOccupancyReport() {
+        List<Flight> flights = flightManager.getFlights();
+        StringBuilder sb = new StringBuilder(64 + flights.size() * 80);
+        sb.append("=== Flight Occupancy Report ===\n");
+
+        if (flights.isEmpty()) {
+            sb.append("No flights found.\n");
+            return sb.toString();
+        }
+
+        SeatClass[] classes = SeatClass.values();
+        for (Flight f : flights) {
+            int capacity = f.getFlightPlane().getPlaneCapacity();
+            int reservedCount = reservationManager.getActiveBookingCount(f);
+
+            // String.format satır başına pahalı; 100k uçuşta raporun çoğunu o alıyordu
+            sb.append("Flight ").append(f.getFlightNum())
+                    .append(" (").append(f.getFlightRoute().getDeparturePlace())
+                    .append(" -> ").append(f.getFlightRoute().getArrivalPlace())
+                    .append(") : ").append(reservedCount).append(" / ").append(capacity)
+                    .append(" (");
+            appendPercent(sb, reservedCount, capacity);
+            sb.append(") [");
+            for (int i = 0; i < classes.length; i++) {
+                if (i > 0) sb.append(", ");
+                sb.append(classes[i]).append(' ').append(reservationManager.getActiveBookingCount(f, classes[i]));
+            }
+            sb.append("]\n");
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * part / whole yüzdesini iki ondalıkla yazar ("%.2f%%" ile aynı çıktı).
+     */
+    private static void appendPercent(StringBuilder sb, int part, int whole) {
+        long hundredths = whole == 0 ? 0 : Math.round(part * 10000.0 / whole);
+        sb.append(hundredths / 100).append('.');
+        long fraction = hundredths % 100;
+        if (fraction < 10) sb.append('0');
+        sb.append(fraction).append('%');
+    }
+}
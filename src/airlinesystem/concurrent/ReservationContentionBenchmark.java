@@ -0,0 +1,141 @@
+package airlinesystem.concurrent;
+
+import airlinesystem.model.Flight;
+import airlinesystem.model.Passenger;
+import airlinesystem.model.Plane;
+import airlinesystem.model.Reservation;
+import airlinesystem.model.Route;
+import airlinesystem.model.Ticket;
+import airlinesystem.repository.ReservationFileRepository;
+import airlinesystem.service.BasicPriceCalculator;
+import airlinesystem.service.ReservationManager;
+import airlinesystem.service.SeatManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * ReservationManager.makeReservation için basit çekişme (contention) ölçümü.
+ * Her thread kendi uçuşlarına rezervasyon yapar; thread sayısı arttıkça
+ * toplam throughput'un da artması beklenir (global kilit olsaydı düz kalırdı).
+ *
+ * Dosya yazma maliyetini ölçüme karıştırmamak için repository journal'a ve snapshot'a hiç
+ * yazmaz (append/rotate hemen tamamlanmış future döner); her turdan sonra manager kapatılır.
+ *
+ * Çalıştırma: java airlinesystem.concurrent.ReservationContentionBenchmark
+ */
+public class ReservationContentionBenchmark {
+
+    private static final int ROWS = 50;
+    private static final int COLS = 10;          // uçuş başına 500 koltuk
+    private static final int FLIGHTS_PER_THREAD = 8;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws InterruptedException {
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+
+        System.out.println("threads | bookings/sec");
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            double best = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                best = Math.max(best, runOnce(threads));
+            }
+            System.out.printf("%7d | %,.0f%n", threads, best);
+        }
+    }
+
+    private static double runOnce(int threads) throws InterruptedException {
+        SeatManager seatManager = new SeatManager();
+        ReservationManager reservationManager = new ReservationManager(
+                seatManager,
+                new BasicPriceCalculator(1.5, 10.0),
+                new InMemoryReservationRepository()
+        );
+
+        List<List<Flight>> flightsPerThread = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            List<Flight> flights = new ArrayList<>();
+            for (int i = 0; i < FLIGHTS_PER_THREAD; i++) {
+                Plane plane = new Plane("B-" + t + "-" + i, "BenchPlane", ROWS, COLS);
+                Flight flight = new Flight("BF" + t + "-" + i, new Route("IST", "ESB"), plane,
+                        LocalDate.now().plusDays(1), LocalTime.NOON, 60, 1000.0);
+                seatManager.createInventory(flight, 2, 1.5);
+                flights.add(flight);
+            }
+            flightsPerThread.add(flights);
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            List<Flight> flights = flightsPerThread.get(t);
+            Passenger passenger = new Passenger("BP" + t, "Bench", "User", "bench@example.com", "X" + t);
+            new Thread(() -> {
+                try {
+                    start.await();
+                    for (Flight f : flights) {
+                        for (int r = 1; r <= ROWS; r++) {
+                            for (int c = 0; c < COLS; c++) {
+                                reservationManager.makeReservation(f, passenger,
+                                        r + String.valueOf((char) ('A' + c)), null);
+                            }
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }, "Bench-" + t).start();
+        }
+
+        long t0 = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - t0;
+
+        reservationManager.shutdown(); // hold zamanlayıcısı ve compaction thread'i turlar arasında birikmesin
+
+        long bookings = (long) threads * FLIGHTS_PER_THREAD * ROWS * COLS;
+        return bookings * 1_000_000_000.0 / elapsed;
+    }
+
+    /**
+     * Dosyaya hiç yazmayan repository; sadece rezervasyon yolunun kendisini ölçmek için.
+     */
+    private static class InMemoryReservationRepository extends ReservationFileRepository {
+
+        InMemoryReservationRepository() {
+            super("benchmark-reservations.txt");
+        }
+
+        @Override
+        public CompletableFuture<Void> appendBookings(List<Ticket> tickets) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletableFuture<Void> appendCancel(String reservationCode) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletableFuture<Void> rotateJournal() {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public void saveSnapshot(List<Reservation> reservations, List<Ticket> tickets) {
+            // bilinçli olarak boş
+        }
+
+        @Override
+        public void saveAll(List<Reservation> reservations, List<Ticket> tickets) {
+            // bilinçli olarak boş
+        }
+    }
+}
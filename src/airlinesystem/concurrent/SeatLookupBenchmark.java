@@ -0,0 +1,118 @@
+package airlinesystem.concurrent;
+
+import airlinesystem.model.Flight;
+import airlinesystem.model.Plane;
+import airlinesystem.model.Route;
+import airlinesystem.model.Seat;
+import airlinesystem.model.SeatInventory;
+import airlinesystem.model.SeatLabels;
+import airlinesystem.service.SeatManager;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Koltuk numarası çözme yolunun ölçümü: eski parse (trim + toUpperCase + substring + parseInt)
+ * ile SeatLabels.parseIndex, SeatManager.resolveSeatNumber'ın tamamı (Seat görünümü dahil)
+ * ve görünüm oluşturmayan resolveIndex + isReserved(index).
+ * İşlem başına süre ve (JVM destekliyorsa) thread'in ayırdığı byte sayısı yazılır.
+ *
+ * Çalıştırma: java airlinesystem.concurrent.SeatLookupBenchmark
+ */
+public class SeatLookupBenchmark {
+
+    private static final int ROWS = 40;
+    private static final int COLS = 6;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 5;
+    private static final int OPS_PER_ROUND = 2_000_000;
+
+    // JIT'in sonucu atmasını engellemek için
+    private static long sink;
+    // Seat görünümü gerçek çağıranlardaki gibi kaçsın (escape analysis ile yok edilmesin)
+    private static Seat lastSeat;
+
+    public static void main(String[] args) {
+        String[] inputs = new String[ROWS * COLS];
+        for (int r = 0; r < ROWS; r++) {
+            for (int c = 0; c < COLS; c++) {
+                // kullanıcı girişine benzesin: bazıları küçük harf
+                String label = SeatLabels.label(r, c);
+                inputs[r * COLS + c] = (c % 2 == 0) ? label : label.toLowerCase();
+            }
+        }
+
+        SeatManager seatManager = new SeatManager();
+        Flight flight = new Flight("BL001", new Route("IST", "ESB"), new Plane("BL", "BenchPlane", ROWS, COLS),
+                LocalDate.now().plusDays(1), LocalTime.NOON, 60, 1000.0);
+        SeatInventory inventory = seatManager.createInventory(flight, 2, 1.5);
+
+        System.out.println("path                 |   ns/op | bytes/op");
+        report("legacy parse", inputs, s -> legacyParse(s));
+        report("SeatLabels.parseIndex", inputs, s -> SeatLabels.parseIndex(s, ROWS, COLS));
+        report("resolveSeatNumber", inputs, s -> (lastSeat = seatManager.resolveSeatNumber(flight, s)).isReserved() ? 1 : 0);
+        report("resolveIndex", inputs, s -> inventory.isReserved(seatManager.resolveIndex(flight, s)) ? 1 : 0);
+    }
+
+    private interface Op {
+        int apply(String seatNumber);
+    }
+
+    private static void report(String name, String[] inputs, Op op) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            run(inputs, op);
+        }
+
+        double bestNanos = Double.MAX_VALUE;
+        long bytesBefore = allocatedBytes();
+        for (int i = 0; i < ROUNDS; i++) {
+            long t0 = System.nanoTime();
+            run(inputs, op);
+            bestNanos = Math.min(bestNanos, (System.nanoTime() - t0) / (double) OPS_PER_ROUND);
+        }
+        long bytes = allocatedBytes() - bytesBefore;
+
+        String bytesPerOp = bytesBefore < 0 ? "n/a" : String.format("%.1f", bytes / (double) (ROUNDS * OPS_PER_ROUND));
+        System.out.printf("%-21s | %7.1f | %s%n", name, bestNanos, bytesPerOp);
+    }
+
+    private static void run(String[] inputs, Op op) {
+        long acc = 0;
+        for (int i = 0; i < OPS_PER_ROUND; i++) {
+            acc += op.apply(inputs[i % inputs.length]);
+        }
+        sink += acc;
+    }
+
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    /**
+     * Değişiklikten önceki SeatManager.parseSeatNumber'ın birebir kopyası (karşılaştırma için).
+     */
+    private static int legacyParse(String seatNumber) {
+        if (seatNumber == null || seatNumber.length() < 2) {
+            return -1;
+        }
+        seatNumber = seatNumber.trim().toUpperCase();
+        if (seatNumber.length() < 2) {
+            return -1;
+        }
+        char columnLetter = seatNumber.charAt(seatNumber.length() - 1);
+        String rowNum = seatNumber.substring(0, seatNumber.length() - 1);
+        int rowIndex;
+        try {
+            rowIndex = Integer.parseInt(rowNum) - 1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+        int[] rowCol = new int[]{rowIndex, columnLetter - 'A'};
+        return rowCol[0] * COLS + rowCol[1];
+    }
+}
@@ -0,0 +1,105 @@
+package airlinesystem.model;
+
+/**
+ * Bir uçak tipinin değişmeyen kabin düzeni: sıra/sütun sayısı, kaç sıranın business olduğu
+ * ve koltuk etiketleri (1A, 1B, ...). Aynı düzene sahip tüm uçuşlar tek bir nesneyi paylaşır;
+ * uçuşa özel olan tek şey SeatInventory içindeki doluluk bitleridir.
+ */
+public final class CabinLayout {
+
+    private final int rows;
+    private final int columns;
+    private final int businessRows;
+    private final double businessMultiplier;
+    private final String[] seatLabels;   // index = row * columns + column (SeatLabels'tan paylaşılan)
+
+    public CabinLayout(int rows, int columns, int businessRows, double businessMultiplier) {
+        if (rows <= 0 || columns <= 0) {
+            throw new IllegalArgumentException("Rows and columns must be positive");
+        }
+        if (businessMultiplier <= 0) {
+            throw new IllegalArgumentException("Multiplier must be positive");
+        }
+
+        this.rows = rows;
+        this.columns = columns;
+        this.businessRows = Math.max(0, Math.min(businessRows, rows));
+        this.businessMultiplier = businessMultiplier;
+
+        this.seatLabels = new String[rows * columns];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                seatLabels[r * columns + c] = SeatLabels.label(r, c);
+            }
+        }
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getCapacity() {
+        return rows * columns;
+    }
+
+    public int getBusinessRows() {
+        return businessRows;
+    }
+
+    public double getBusinessMultiplier() {
+        return businessMultiplier;
+    }
+
+    public String getSeatLabel(int row, int column) {
+        checkCoordinates(row, column);
+        return seatLabels[row * columns + column];
+    }
+
+    /**
+     * "12C" → index (row * columns + column); geçersiz veya düzen dışıysa -1. Nesne oluşturmaz.
+     */
+    public int indexOf(CharSequence seatNumber) {
+        return SeatLabels.parseIndex(seatNumber, rows, columns);
+    }
+
+    public SeatClass getSeatClass(int row) {
+        if (row < 0 || row >= rows) {
+            throw new IndexOutOfBoundsException("Invalid seat coordinates");
+        }
+        return row < businessRows ? SeatClass.BUSINESS : SeatClass.ECONOMY;
+    }
+
+    /**
+     * Sınıfın ilk sırası (dahil). Business sıraları en öndedir.
+     */
+    public int getFirstRow(SeatClass seatClass) {
+        return seatClass == SeatClass.BUSINESS ? 0 : businessRows;
+    }
+
+    /**
+     * Sınıfın son sırasından bir sonraki (hariç).
+     */
+    public int getEndRow(SeatClass seatClass) {
+        return seatClass == SeatClass.BUSINESS ? businessRows : rows;
+    }
+
+    public double getPriceMultiplier(int row) {
+        return getSeatClass(row) == SeatClass.BUSINESS ? businessMultiplier : 1.0;
+    }
+
+    private void checkCoordinates(int row, int column) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            throw new IndexOutOfBoundsException("Invalid seat coordinates");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CabinLayout{" + rows + "x" + columns +
+                ", businessRows=" + businessRows + "}";
+    }
+}
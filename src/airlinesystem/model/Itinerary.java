@@ -0,0 +1,91 @@
+package airlinesystem.model;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Bir veya daha fazla bacaktan (leg) oluşan yolculuk: her bacağın varış şehri
+ * bir sonrakinin kalkış şehridir.
+ */
+public class Itinerary {
+
+    private final List<Flight> legs;
+
+    public Itinerary(List<Flight> legs) {
+        if (legs == null || legs.isEmpty()) {
+            throw new IllegalArgumentException("Itinerary must have at least one leg");
+        }
+        this.legs = List.copyOf(legs);
+    }
+
+    public List<Flight> getLegs() {
+        return legs;
+    }
+
+    public int getLegCount() {
+        return legs.size();
+    }
+
+    public Flight getFirstLeg() {
+        return legs.get(0);
+    }
+
+    public Flight getLastLeg() {
+        return legs.get(legs.size() - 1);
+    }
+
+    public String getOrigin() {
+        return getFirstLeg().getDeparturePlace();
+    }
+
+    public String getDestination() {
+        return getLastLeg().getArrivalPlace();
+    }
+
+    public LocalDateTime getDepartureDateTime() {
+        return getFirstLeg().getDepartureDateTime();
+    }
+
+    public LocalDateTime getArrivalDateTime() {
+        return getLastLeg().getArrivalDateTime();
+    }
+
+    public long getDepartureEpochSecond() {
+        return getFirstLeg().getDepartureEpochSecond();
+    }
+
+    public long getArrivalEpochSecond() {
+        return getLastLeg().getArrivalEpochSecond();
+    }
+
+    /**
+     * İlk kalkıştan son inişe kadar geçen süre (aktarma beklemeleri dahil).
+     */
+    public Duration getTotalDuration() {
+        return Duration.ofSeconds(getArrivalEpochSecond() - getDepartureEpochSecond());
+    }
+
+    public double getTotalEconomyBasePrice() {
+        double total = 0;
+        for (Flight f : legs) {
+            total += f.getEconomyBasePrice();
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(getOrigin());
+        for (Flight f : legs) {
+            sb.append(" -> ").append(f.getArrivalPlace());
+        }
+        sb.append(" (");
+        for (int i = 0; i < legs.size(); i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(legs.get(i).getFlightNum());
+        }
+        sb.append(")");
+        return sb.toString();
+    }
+}
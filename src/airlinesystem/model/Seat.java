@@ -1,69 +1,134 @@
-package airlinesystem.model;
-
-public class Seat {
-
-    private final String seatNum;
-    private final SeatClass seatClass;
-    private double basePrice;
-    private boolean reserved;
-
-    public Seat(String seatNum, SeatClass seatClass, double basePrice) {
-
-        if (seatNum == null || seatNum.isBlank()) {
-            throw new IllegalArgumentException("Seat number cannot be null or blank");
-        }
-        if (seatClass == null) {
-            throw new IllegalArgumentException("Seat class cannot be null");
-        }
-        if (basePrice < 0) {
-            throw new IllegalArgumentException("Price cannot be negative");
-        }
-
-        this.seatNum = seatNum;
-        this.seatClass = seatClass;
-        this.basePrice = basePrice;
-        this.reserved = false;
-    }
-
-    public String getSeatNum() {
-        return seatNum;
-    }
-
-    public SeatClass getSeatClass() {
-        return seatClass;
-    }
-
-    public double getBasePrice() {
-        return basePrice;
-    }
-
-    public void setBasePrice(double price) {
-        if (price < 0) {
-            throw new IllegalArgumentException("Price cannot be negative");
-        }
-        this.basePrice = price;
-    }
-
-    public boolean isReserved() {
-        return reserved;
-    }
-
-    public void makeReservation() {
-        if (reserved) {
-            throw new IllegalStateException("Seat is already reserved");
-        }
-        reserved = true;
-    }
-
-    public void cancelReservation() {
-        if (!reserved) {
-            throw new IllegalStateException("Seat is not reserved");
-        }
-        reserved = false;
-    }
-
-    @Override
-    public String toString() {
-        return seatNum + " (" + seatClass + ", reserved=" + reserved + ")";
-    }
-}
+package airlinesystem.model;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class Seat {
+
+    private final String seatNum;
+    private final SeatClass seatClass;
+    private double basePrice;
+    // check-then-act yerine compare-and-set: iki thread aynı koltuğu alamaz
+    // (sadece tek başına koltukta; SeatInventory görünümünde null)
+    private final AtomicBoolean reserved;
+    // ödeme/bagaj girilirken geçici tutuluyor (SeatHold); held koltuk aynı zamanda reserved'dır
+    private final AtomicBoolean held;
+
+    // SeatInventory görünümlerinde durum uçuşun bitmap'inde tutulur; tek başına koltukta null
+    private final SeatOccupancy occupancy;
+    private final int row;
+    private final int column;
+
+    public Seat(String seatNum, SeatClass seatClass, double basePrice) {
+
+        if (seatNum == null || seatNum.isBlank()) {
+            throw new IllegalArgumentException("Seat number cannot be null or blank");
+        }
+        if (seatClass == null) {
+            throw new IllegalArgumentException("Seat class cannot be null");
+        }
+        if (basePrice < 0) {
+            throw new IllegalArgumentException("Price cannot be negative");
+        }
+
+        this.seatNum = seatNum;
+        this.seatClass = seatClass;
+        this.basePrice = basePrice;
+        this.reserved = new AtomicBoolean(false);
+        this.held = new AtomicBoolean(false);
+        this.occupancy = null;
+        this.row = -1;
+        this.column = -1;
+    }
+
+    /**
+     * SeatInventory'nin kullandığı görünüm constructor'ı: durum doğrudan
+     * verilen bitmap hücresinden okunur, hücrenin mevcut biti değiştirilmez.
+     * Atomic alan ayrılmaz; görünüm sadece etiket, sınıf, fiyat ve hücre koordinatıdır.
+     */
+    Seat(String seatNum, SeatClass seatClass, double basePrice,
+         SeatOccupancy occupancy, int row, int column) {
+        // değerler CabinLayout'tan geliyor, ayrıca doğrulanmıyor
+        this.seatNum = seatNum;
+        this.seatClass = seatClass;
+        this.basePrice = basePrice;
+        this.row = row;
+        this.column = column;
+        this.reserved = null;
+        this.held = null;
+        this.occupancy = occupancy;
+    }
+
+    public String getSeatNum() {
+        return seatNum;
+    }
+
+    public SeatClass getSeatClass() {
+        return seatClass;
+    }
+
+    public double getBasePrice() {
+        return basePrice;
+    }
+
+    public void setBasePrice(double price) {
+        if (price < 0) {
+            throw new IllegalArgumentException("Price cannot be negative");
+        }
+        this.basePrice = price;
+    }
+
+    public boolean isReserved() {
+        return occupancy != null ? occupancy.isReserved(row, column) : reserved.get();
+    }
+
+    /**
+     * Koltuk kesin rezervasyon değil, süreli bir hold altında mı.
+     */
+    public boolean isHeld() {
+        return occupancy != null ? occupancy.isHeld(row, column) : held.get();
+    }
+
+    /**
+     * SeatHold tarafından çağrılır; dolu bitine dokunmaz.
+     */
+    void setHeld(boolean value) {
+        if (occupancy != null) {
+            occupancy.setHeld(row, column, value);
+        } else {
+            held.set(value);
+        }
+    }
+
+    /**
+     * Koltuğu atomik olarak alır.
+     * @return koltuk boştu ve bu çağrı aldıysa true, başkası önce aldıysa false
+     */
+    public boolean tryClaim() {
+        return occupancy != null ? occupancy.tryClaim(row, column) : reserved.compareAndSet(false, true);
+    }
+
+    /**
+     * Koltuğu atomik olarak bırakır.
+     * @return koltuk doluydu ve bu çağrı boşalttıysa true
+     */
+    public boolean release() {
+        return occupancy != null ? occupancy.release(row, column) : reserved.compareAndSet(true, false);
+    }
+
+    public void makeReservation() {
+        if (!tryClaim()) {
+            throw new IllegalStateException("Seat is already reserved");
+        }
+    }
+
+    public void cancelReservation() {
+        if (!release()) {
+            throw new IllegalStateException("Seat is not reserved");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return seatNum + " (" + seatClass + ", reserved=" + isReserved() + ")";
+    }
+}
@@ -1,6 +1,6 @@
-package airlinesystem.model;
-
-public enum SeatClass {
-	BUSINESS,
-	ECONOMY
-}
+package airlinesystem.model;
+
+public enum SeatClass {
+	BUSINESS,
+	ECONOMY
+}
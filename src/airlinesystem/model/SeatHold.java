@@ -0,0 +1,127 @@
+package airlinesystem.model;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Yolcu bagaj/ödeme bilgilerini girerken koltuğun süreli olarak tutulması.
+ * Hold süresince koltuk dolu sayılır; süre dolunca (expire) ya da vazgeçilince (release)
+ * koltuk geri bırakılır, rezervasyona dönüştürülürse (convert) dolu kalır.
+ *
+ * Durum geçişleri tek bir CAS ile yapılır: HELD'den çıkabilen tek çağrı kazanır,
+ * böylece süre dolması ile satın alma aynı anda olursa koltuk iki kez işlenmez.
+ */
+public class SeatHold {
+
+    public enum State {
+        HELD,
+        CONVERTED,
+        EXPIRED,
+        RELEASED
+    }
+
+    private final String holdId;
+    private final Flight flight;
+    private final Seat seat;
+    private final LocalDateTime expiresAt;
+    private final AtomicReference<State> state = new AtomicReference<>(State.HELD);
+
+    private SeatHold(String holdId, Flight flight, Seat seat, LocalDateTime expiresAt) {
+        this.holdId = holdId;
+        this.flight = flight;
+        this.seat = seat;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Koltuğu atomik olarak alıp hold altına koyar.
+     * @return oluşturulan hold, koltuk zaten dolu/tutuluyorsa null
+     */
+    public static SeatHold place(String holdId, Flight flight, Seat seat, LocalDateTime expiresAt) {
+        if (holdId == null || holdId.isBlank()) {
+            throw new IllegalArgumentException("Hold id cannot be null or blank");
+        }
+        if (flight == null || seat == null || expiresAt == null) {
+            throw new IllegalArgumentException("Flight, seat and expiry time cannot be null");
+        }
+        if (!seat.tryClaim()) {
+            return null;
+        }
+        seat.setHeld(true);
+        return new SeatHold(holdId, flight, seat, expiresAt);
+    }
+
+    public String getHoldId() {
+        return holdId;
+    }
+
+    public Flight getFlight() {
+        return flight;
+    }
+
+    public Seat getSeat() {
+        return seat;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public boolean isActive() {
+        return state.get() == State.HELD;
+    }
+
+    /**
+     * Hold'u kesin rezervasyona çevirir; koltuk dolu kalır.
+     * @return hold hâlâ geçerliydi ve bu çağrı dönüştürdüyse true
+     */
+    public boolean convert() {
+        if (LocalDateTime.now().isAfter(expiresAt)) {
+            // zamanlayıcı henüz tetiklenmemiş olabilir, ama süre dolmuş hold satılmaz
+            return false;
+        }
+        if (!state.compareAndSet(State.HELD, State.CONVERTED)) {
+            return false;
+        }
+        seat.setHeld(false);
+        return true;
+    }
+
+    /**
+     * Süre doldu: koltuğu geri bırakır.
+     */
+    public boolean expire() {
+        return finish(State.EXPIRED);
+    }
+
+    /**
+     * Yolcu vazgeçti: koltuğu geri bırakır.
+     */
+    public boolean release() {
+        return finish(State.RELEASED);
+    }
+
+    private boolean finish(State target) {
+        if (!state.compareAndSet(State.HELD, target)) {
+            return false;
+        }
+        seat.setHeld(false);
+        seat.release();
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "SeatHold{" +
+                "id='" + holdId + '\'' +
+                ", flight=" + flight.getFlightNum() +
+                ", seat=" + seat.getSeatNum() +
+                ", expiresAt=" + expiresAt +
+                ", state=" + state.get() +
+                '}';
+    }
+}
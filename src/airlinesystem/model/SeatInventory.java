@@ -0,0 +1,188 @@
+package airlinesystem.model;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Tek bir uçuşun koltuk durumu: paylaşılan CabinLayout + bu uçuşa ait doluluk bitmap'i.
+ * Aynı uçağı (tail) kullanan uçuşların her birinin kendi envanteri vardır,
+ * böylece bir uçuştaki rezervasyon diğerini etkilemez.
+ *
+ * Seat nesneleri kalıcı olarak tutulmaz; getSeat() bitmap'teki hücreye bağlı
+ * hafif bir görünüm döner (rezervasyon veya UI ihtiyaç duyduğunda).
+ */
+public class SeatInventory {
+
+    private final String flightNum;
+    private final CabinLayout layout;
+    private final SeatOccupancy occupancy;
+    private volatile double economyBasePrice;
+
+    public SeatInventory(String flightNum, CabinLayout layout, double economyBasePrice) {
+        if (flightNum == null || flightNum.isBlank()) {
+            throw new IllegalArgumentException("Flight number cannot be null or blank");
+        }
+        if (layout == null) {
+            throw new IllegalArgumentException("Cabin layout cannot be null");
+        }
+        this.flightNum = flightNum;
+        this.layout = layout;
+        this.occupancy = new SeatOccupancy(layout.getRows(), layout.getColumns());
+        setEconomyBasePrice(economyBasePrice);
+    }
+
+    public String getFlightNum() {
+        return flightNum;
+    }
+
+    public CabinLayout getLayout() {
+        return layout;
+    }
+
+    public SeatOccupancy getOccupancy() {
+        return occupancy;
+    }
+
+    public double getEconomyBasePrice() {
+        return economyBasePrice;
+    }
+
+    public void setEconomyBasePrice(double economyBasePrice) {
+        if (economyBasePrice < 0) {
+            throw new IllegalArgumentException("Base price cannot be negative");
+        }
+        this.economyBasePrice = economyBasePrice;
+    }
+
+    public int getCapacity() {
+        return layout.getCapacity();
+    }
+
+    public int getAvailableSeatCount() {
+        return occupancy.getAvailableCount();
+    }
+
+    public int getReservedSeatCount() {
+        return occupancy.getReservedCount();
+    }
+
+    public boolean isReserved(int row, int column) {
+        return occupancy.isReserved(row, column);
+    }
+
+    /**
+     * index = row * columns + column; Seat görünümü oluşturmadan doluluk okur.
+     */
+    public boolean isReserved(int index) {
+        int columns = layout.getColumns();
+        return occupancy.isReserved(index / columns, index % columns);
+    }
+
+    /**
+     * "12C" → index (row * columns + column); geçersiz veya düzen dışıysa -1. Nesne oluşturmaz.
+     */
+    public int resolveIndex(CharSequence seatNumber) {
+        return layout.indexOf(seatNumber);
+    }
+
+    /**
+     * Snapshot'taki dolu bitlerini (rows x columns düzeninde, SeatOccupancy.toWords biçiminde)
+     * geri yükler. Düzen aynıysa word word; uçak değiştiyse koltuk etiketiyle tek tek, yeni
+     * düzende olmayan koltuklar atlanır. Açılışta, eşzamanlı erişim yokken çağrılır.
+     */
+    public void restoreReserved(int rows, int columns, long[] reserved) {
+        if (rows == layout.getRows() && columns == layout.getColumns()) {
+            occupancy.restore(reserved);
+            return;
+        }
+        int wordsPerRow = (columns + 63) >>> 6;
+        if (rows <= 0 || columns <= 0 || reserved == null || reserved.length != rows * wordsPerRow) {
+            throw new IllegalArgumentException("Bitmap size does not match the seat layout");
+        }
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                if ((reserved[r * wordsPerRow + (c >>> 6)] & (1L << (c & 63))) == 0) {
+                    continue;
+                }
+                int index = layout.indexOf(SeatLabels.label(r, c));
+                if (index >= 0) {
+                    occupancy.tryClaim(index / layout.getColumns(), index % layout.getColumns());
+                }
+            }
+        }
+    }
+
+    /**
+     * (row, column) hücresine bağlı bir Seat görünümü döner.
+     * Aynı hücre için dönen tüm Seat nesneleri aynı biti paylaşır.
+     */
+    public Seat getSeat(int row, int column) {
+        return new Seat(
+                layout.getSeatLabel(row, column),
+                layout.getSeatClass(row),
+                economyBasePrice * layout.getPriceMultiplier(row),
+                occupancy,
+                row,
+                column
+        );
+    }
+
+    /**
+     * index = row * columns + column
+     */
+    public Seat getSeatAt(int index) {
+        int columns = layout.getColumns();
+        return getSeat(index / columns, index % columns);
+    }
+
+    /**
+     * Verilen sınıftaki herhangi bir boş koltuğu atomik olarak alır.
+     * @return alınan koltuk, sınıfta boş yer yoksa null
+     */
+    public Seat claimAny(SeatClass seatClass) {
+        if (seatClass == null) {
+            throw new IllegalArgumentException("Seat class cannot be null");
+        }
+        int index = occupancy.claimAny(layout.getFirstRow(seatClass), layout.getEndRow(seatClass));
+        return index < 0 ? null : getSeatAt(index);
+    }
+
+    /**
+     * Sıradaki ilk boş koltuk; yoksa null.
+     */
+    public Seat nextFree(int row) {
+        int col = occupancy.nextFree(row);
+        return col < 0 ? null : getSeat(row, col);
+    }
+
+    /**
+     * Boş koltukları (baştan sona) gezer. seatClass null ise tüm kabin.
+     */
+    public Iterator<Seat> freeSeats(SeatClass seatClass) {
+        int from = seatClass == null ? 0 : layout.getFirstRow(seatClass);
+        int to = seatClass == null ? layout.getRows() : layout.getEndRow(seatClass);
+        PrimitiveIterator.OfInt indices = occupancy.freeSeats(from, to);
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return indices.hasNext();
+            }
+
+            @Override
+            public Seat next() {
+                if (!indices.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return getSeatAt(indices.nextInt());
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "SeatInventory{flight=" + flightNum +
+                ", layout=" + layout +
+                ", reserved=" + occupancy.getReservedCount() + "/" + layout.getCapacity() + "}";
+    }
+}
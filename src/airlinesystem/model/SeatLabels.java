@@ -0,0 +1,102 @@
+package airlinesystem.model;
+
+/**
+ * Koltuk etiketleri ("12C") ile (sıra, sütun) arasındaki dönüşüm.
+ *
+ * Etiketler süreç genelinde tek bir tabloda tutulur: "12C" string'i bir kez üretilir,
+ * tüm kabin düzenleri, uçaklar ve uçuşlar aynı nesneyi paylaşır.
+ * Ters yön (parseIndex) hiç nesne oluşturmaz: trim/toUpperCase/substring/parseInt yerine
+ * karakterler yerinde okunur.
+ */
+public final class SeatLabels {
+
+    // [row][column] → etiket; büyümesi copy-on-write, okuma kilitsiz
+    private static volatile String[][] table = new String[0][];
+
+    private SeatLabels() {
+    }
+
+    /**
+     * 0 tabanlı (row, column) için paylaşılan etiket: (0, 2) → "1C".
+     */
+    public static String label(int row, int column) {
+        if (row < 0 || column < 0) {
+            throw new IndexOutOfBoundsException("Invalid seat coordinates");
+        }
+        String[][] t = table;
+        if (row < t.length && column < t[row].length) {
+            return t[row][column];
+        }
+        return grow(row, column)[row][column];
+    }
+
+    private static synchronized String[][] grow(int row, int column) {
+        String[][] current = table;
+        int rows = Math.max(current.length, row + 1);
+        String[][] next = new String[rows][];
+        for (int r = 0; r < rows; r++) {
+            String[] old = r < current.length ? current[r] : new String[0];
+            int columns = Math.max(old.length, r == row ? column + 1 : 0);
+            if (columns == old.length) {
+                next[r] = old;
+                continue;
+            }
+            String[] line = new String[columns];
+            System.arraycopy(old, 0, line, 0, old.length);
+            for (int c = old.length; c < columns; c++) {
+                line[c] = (r + 1) + String.valueOf((char) ('A' + c));
+            }
+            next[r] = line;
+        }
+        table = next;
+        return next;
+    }
+
+    /**
+     * "12C" → row * columns + column (0 tabanlı). Baştaki/sondaki boşluklar ve
+     * küçük harf kabul edilir. Biçim hatalı veya düzen dışındaysa -1.
+     * Nesne oluşturmaz (String, StringBuilder veya exception yok).
+     */
+    public static int parseIndex(CharSequence seatNumber, int rows, int columns) {
+        if (seatNumber == null) {
+            return -1;
+        }
+
+        int start = 0;
+        int end = seatNumber.length();
+        while (start < end && seatNumber.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && seatNumber.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (end - start < 2) {
+            return -1;
+        }
+
+        char letter = seatNumber.charAt(end - 1);
+        if (letter >= 'a' && letter <= 'z') {
+            letter = (char) (letter - ('a' - 'A'));
+        }
+        int column = letter - 'A';
+        if (column < 0 || column >= columns) {
+            return -1;
+        }
+
+        int rowNumber = 0;
+        for (int i = start; i < end - 1; i++) {
+            char ch = seatNumber.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return -1;
+            }
+            rowNumber = rowNumber * 10 + (ch - '0');
+            if (rowNumber > rows) {
+                return -1; // aralık dışı; ayrıca int taşmasını önler
+            }
+        }
+        if (rowNumber < 1) {
+            return -1;
+        }
+        return (rowNumber - 1) * columns + column;
+    }
+}
@@ -0,0 +1,467 @@
+package airlinesystem.model;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Koltukların dolu/boş bilgisini sıkıştırılmış bitmap olarak tutar.
+ * Her sıra (row) kendi long word'ünde başlar: bit = 1 → dolu, 0 → boş.
+ * (Sütun sayısı 64'ü geçerse bir sıra birden fazla word kaplar; maskeler word word okunur.)
+ *
+ * Bit değişiklikleri CAS ile yapılır, dolu koltuk sayısı ayrıca sayaçta tutulur;
+ * böylece müsait koltuk sayısı O(1), bir sıranın maskesi tek okuma ile alınır.
+ *
+ * Boş koltuk aramak için ikinci seviye bir özet de tutulur: her sıra için
+ * "bu sırada boş koltuk olabilir" biti. Dolu sıralar bu özetten düşer, böylece
+ * claimAny() tüm matrisi değil sadece 64 sırada bir word okuyarak boş sıraya atlar.
+ * (Özet bir ipucudur: bit set olup sıranın dolu olması mümkündür, tersi değil.)
+ *
+ * Geçici tutulan (hold) koltuklar hem dolu bitinde hem de aynı düzendeki ayrı
+ * bir "held" bitmap'inde işaretlidir; yani başkası tarafından alınamazlar.
+ */
+public class SeatOccupancy {
+
+    private final int rows;
+    private final int columns;
+    private final int wordsPerRow;
+    private final AtomicLongArray words;
+    private final AtomicLongArray heldWords;     // aynı düzen: bit = 1 → hold altında
+    private final AtomicLongArray nonFullRows;   // bit r = r. sırada boş koltuk olabilir
+    private final AtomicInteger reservedCount = new AtomicInteger();
+
+    public SeatOccupancy(int rows, int columns) {
+        if (rows <= 0 || columns <= 0) {
+            throw new IllegalArgumentException("Rows and columns must be positive");
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.wordsPerRow = (columns + 63) >>> 6;
+        this.words = new AtomicLongArray(rows * wordsPerRow);
+        this.heldWords = new AtomicLongArray(rows * wordsPerRow);
+
+        this.nonFullRows = new AtomicLongArray((rows + 63) >>> 6);
+        for (int r = 0; r < rows; r++) {
+            setRowHint(r);
+        }
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getCapacity() {
+        return rows * columns;
+    }
+
+    /**
+     * Koltuğu atomik olarak dolu işaretler.
+     * @return koltuk boştu ve bu çağrı doldurduysa true
+     */
+    public boolean tryClaim(int row, int column) {
+        int w = wordIndex(row, column);
+        long bit = 1L << (column & 63);
+        while (true) {
+            long current = words.get(w);
+            if ((current & bit) != 0) {
+                return false;
+            }
+            if (words.compareAndSet(w, current, current | bit)) {
+                reservedCount.incrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Koltuğu atomik olarak boş işaretler.
+     * @return koltuk doluydu ve bu çağrı boşalttıysa true
+     */
+    public boolean release(int row, int column) {
+        int w = wordIndex(row, column);
+        long bit = 1L << (column & 63);
+        while (true) {
+            long current = words.get(w);
+            if ((current & bit) == 0) {
+                return false;
+            }
+            if (words.compareAndSet(w, current, current & ~bit)) {
+                reservedCount.decrementAndGet();
+                setRowHint(row);
+                return true;
+            }
+        }
+    }
+
+    // -------------------- FREE-SEAT SEARCH --------------------
+
+    /**
+     * Sıradaki ilk boş sütun; yoksa -1.
+     */
+    public int nextFree(int row) {
+        return nextFree(row, 0);
+    }
+
+    /**
+     * fromColumn ve sonrasındaki ilk boş sütun; yoksa -1.
+     */
+    public int nextFree(int row, int fromColumn) {
+        checkRow(row);
+        int base = row * wordsPerRow;
+        int c = Math.max(0, fromColumn);
+        while (c < columns) {
+            int wi = c >>> 6;
+            long free = ~words.get(base + wi) & validBits(wi) & (-1L << (c & 63));
+            if (free != 0) {
+                return (wi << 6) + Long.numberOfTrailingZeros(free);
+            }
+            c = (wi + 1) << 6;
+        }
+        return -1;
+    }
+
+    /**
+     * [fromRow, toRow) aralığındaki herhangi bir boş koltuğu atomik olarak alır.
+     * @return alınan koltuğun index'i (row * columns + column), hiç boş yoksa -1
+     */
+    public int claimAny(int fromRow, int toRow) {
+        int row = nextCandidateRow(fromRow, toRow);
+        while (row >= 0) {
+            int col = nextFree(row, 0);
+            while (col >= 0) {
+                if (tryClaim(row, col)) {
+                    return row * columns + col;
+                }
+                // başka thread kaptı; aynı sıradaki bir sonraki boşa bak
+                col = nextFree(row, col);
+            }
+            markRowFull(row);
+            row = nextCandidateRow(row + 1, toRow);
+        }
+        return -1;
+    }
+
+    /**
+     * [fromRow, toRow) aralığındaki boş koltukların index'lerini (row * columns + column) sırayla verir.
+     * Zayıf tutarlı: iterasyon sırasında değişen koltuklar yansıyabilir veya yansımayabilir.
+     */
+    public PrimitiveIterator.OfInt freeSeats(int fromRow, int toRow) {
+        int from = Math.max(0, fromRow);
+        int to = Math.min(rows, toRow);
+        return new PrimitiveIterator.OfInt() {
+            private int row = nextCandidateRow(from, to);
+            private int col = row >= 0 ? nextFree(row, 0) : -1;
+
+            private void advance() {
+                while (row >= 0 && col < 0) {
+                    row = nextCandidateRow(row + 1, to);
+                    col = row >= 0 ? nextFree(row, 0) : -1;
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                advance();
+                return row >= 0;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int index = row * columns + col;
+                col = nextFree(row, col + 1);
+                return index;
+            }
+        };
+    }
+
+    /**
+     * Sırada length uzunluğunda art arda boş koltuk arar. 64 sütuna kadar
+     * sıranın maskesi üzerinde kaydır-ve-AND ile (log length adımda) çalışır.
+     * @return bloğun ilk sütunu, yoksa -1
+     */
+    public int findFreeRun(int row, int length) {
+        return findFreeRunStartingIn(row, length, 0, columns - length);
+    }
+
+    /**
+     * findFreeRun(row, length) gibi, ama sadece ilk sütunu [minStart, maxStart] aralığında
+     * olan blokları kabul eder (ör. başka bir sıradaki bloğun hizasında kalanlar).
+     * @return bloğun ilk sütunu, yoksa -1
+     */
+    public int findFreeRunStartingIn(int row, int length, int minStart, int maxStart) {
+        checkRow(row);
+        minStart = Math.max(0, minStart);
+        maxStart = Math.min(columns - length, maxStart);
+        if (length <= 0 || minStart > maxStart) {
+            return -1;
+        }
+        if (wordsPerRow == 1) {
+            // bit j set → j..j+len-1 arası boş; len'i her adımda ikiye katla
+            long runs = ~words.get(row) & validBits(0);
+            int len = 1;
+            while (len < length && runs != 0) {
+                int shift = Math.min(len, length - len);
+                runs &= runs >>> shift;
+                len += shift;
+            }
+            long window = (-1L >>> (63 - maxStart)) & (-1L << minStart);
+            runs &= window;
+            return runs == 0 ? -1 : Long.numberOfTrailingZeros(runs);
+        }
+
+        // 64'ten geniş sıralar: dolu koltuğa rastlayınca bir sonraki boşa atla
+        int start = nextFree(row, minStart);
+        while (start >= 0 && start <= maxStart) {
+            int c = start + 1;
+            while (c < start + length && !isReserved(row, c)) {
+                c++;
+            }
+            if (c == start + length) {
+                return start;
+            }
+            start = nextFree(row, c + 1);
+        }
+        return -1;
+    }
+
+    /**
+     * [fromRow, toRow) aralığında length uzunluğunda boş blok içeren ilk sıra.
+     * Dolu sıralar özet bitmap ile atlanır.
+     * @return bloğun ilk koltuğunun index'i (row * columns + column), yoksa -1
+     */
+    public int findFreeRun(int fromRow, int toRow, int length) {
+        int row = nextCandidateRow(fromRow, toRow);
+        while (row >= 0) {
+            int col = findFreeRun(row, length);
+            if (col >= 0) {
+                return row * columns + col;
+            }
+            row = nextCandidateRow(row + 1, toRow);
+        }
+        return -1;
+    }
+
+    private int nextCandidateRow(int fromRow, int toRow) {
+        int r = Math.max(0, fromRow);
+        int limit = Math.min(rows, toRow);
+        while (r < limit) {
+            int wi = r >>> 6;
+            long bits = nonFullRows.get(wi) & (-1L << (r & 63));
+            if (bits != 0) {
+                int candidate = (wi << 6) + Long.numberOfTrailingZeros(bits);
+                return candidate < limit ? candidate : -1;
+            }
+            r = (wi + 1) << 6;
+        }
+        return -1;
+    }
+
+    private void markRowFull(int row) {
+        clearRowHint(row);
+        // bu arada biri koltuk bıraktıysa ipucunu geri koy (kayıp olmasın)
+        if (nextFree(row, 0) >= 0) {
+            setRowHint(row);
+        }
+    }
+
+    private void setRowHint(int row) {
+        int w = row >>> 6;
+        long bit = 1L << (row & 63);
+        long current;
+        do {
+            current = nonFullRows.get(w);
+            if ((current & bit) != 0) {
+                return;
+            }
+        } while (!nonFullRows.compareAndSet(w, current, current | bit));
+    }
+
+    private void clearRowHint(int row) {
+        int w = row >>> 6;
+        long bit = 1L << (row & 63);
+        long current;
+        do {
+            current = nonFullRows.get(w);
+            if ((current & bit) == 0) {
+                return;
+            }
+        } while (!nonFullRows.compareAndSet(w, current, current & ~bit));
+    }
+
+    private long validBits(int wordInRow) {
+        int bits = columns - (wordInRow << 6);
+        return bits >= 64 ? -1L : (1L << bits) - 1;
+    }
+
+    public boolean isReserved(int row, int column) {
+        return (words.get(wordIndex(row, column)) & (1L << (column & 63))) != 0;
+    }
+
+    public boolean isHeld(int row, int column) {
+        return (heldWords.get(wordIndex(row, column)) & (1L << (column & 63))) != 0;
+    }
+
+    /**
+     * Hold bitini ayarlar. Dolu bitine dokunmaz; koltuk önce tryClaim ile alınmış olmalıdır.
+     */
+    public void setHeld(int row, int column, boolean held) {
+        int w = wordIndex(row, column);
+        long bit = 1L << (column & 63);
+        long current;
+        long next;
+        do {
+            current = heldWords.get(w);
+            next = held ? current | bit : current & ~bit;
+            if (next == current) {
+                return;
+            }
+        } while (!heldWords.compareAndSet(w, current, next));
+    }
+
+    public int getReservedCount() {
+        return reservedCount.get();
+    }
+
+    public int getAvailableCount() {
+        return getCapacity() - reservedCount.get();
+    }
+
+    /**
+     * Bir sıranın kaç long word kapladığı: (columns + 63) / 64.
+     */
+    public int getWordsPerRow() {
+        return wordsPerRow;
+    }
+
+    /**
+     * Sıranın ilk word'ünün doluluk maskesi: bit j = j. sütun dolu mu.
+     * 64 sütuna kadar (tüm gerçek uçaklar) sıranın tamamıdır; daha genişse getRowMask(row, wordIndex).
+     */
+    public long getRowMask(int row) {
+        return getRowMask(row, 0);
+    }
+
+    /**
+     * Sıranın wordIndex. word'ü: bit j = (wordIndex * 64 + j). sütun dolu mu.
+     */
+    public long getRowMask(int row, int wordIndex) {
+        checkRow(row);
+        checkWord(wordIndex);
+        return words.get(row * wordsPerRow + wordIndex);
+    }
+
+    /**
+     * Sıranın tüm word'lerinin kopyası (getWordsPerRow() uzunluğunda).
+     */
+    public long[] getRowMasks(int row) {
+        checkRow(row);
+        long[] masks = new long[wordsPerRow];
+        for (int i = 0; i < wordsPerRow; i++) {
+            masks[i] = words.get(row * wordsPerRow + i);
+        }
+        return masks;
+    }
+
+    /**
+     * Sadece geçerli sütunları içeren maske (ör. 6 sütun için 0b111111).
+     */
+    public long getFullRowMask() {
+        return getFullRowMask(0);
+    }
+
+    /**
+     * wordIndex. word'ün geçerli sütunları; son word'de sadece taşan sütunlar set'tir.
+     */
+    public long getFullRowMask(int wordIndex) {
+        checkWord(wordIndex);
+        return validBits(wordIndex);
+    }
+
+    public int getReservedCountInRow(int row) {
+        checkRow(row);
+        int count = 0;
+        int base = row * wordsPerRow;
+        for (int i = 0; i < wordsPerRow; i++) {
+            count += Long.bitCount(words.get(base + i));
+        }
+        return count;
+    }
+
+    /**
+     * Koltuk haritasını hedef diziye yazar (index = row * columns + column).
+     */
+    public void copyTo(boolean[] target) {
+        if (target.length < getCapacity()) {
+            throw new IllegalArgumentException("Target array is smaller than capacity");
+        }
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                target[r * columns + c] = isReserved(r, c);
+            }
+        }
+    }
+
+    /**
+     * Hold'lar hariç dolu bitlerinin kopyası (sıra başına (columns + 63) / 64 word);
+     * snapshot'a yazılır, restore ile geri yüklenir.
+     */
+    public long[] toWords() {
+        long[] copy = new long[words.length()];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = words.get(i) & ~heldWords.get(i);
+        }
+        return copy;
+    }
+
+    /**
+     * toWords() düzenindeki dolu bitlerini bitmap'e ekler (koltuk koltuk tryClaim yerine
+     * word word); sayaç ve sıra özeti güncellenir. Açılışta, eşzamanlı erişim yokken çağrılır.
+     */
+    public void restore(long[] reserved) {
+        if (reserved == null || reserved.length != words.length()) {
+            throw new IllegalArgumentException("Bitmap size does not match the seat layout");
+        }
+        for (int r = 0; r < rows; r++) {
+            boolean full = true;
+            for (int i = 0; i < wordsPerRow; i++) {
+                int w = r * wordsPerRow + i;
+                long before = words.get(w);
+                long after = before | (reserved[w] & validBits(i));
+                words.set(w, after);
+                reservedCount.addAndGet(Long.bitCount(after) - Long.bitCount(before));
+                full &= after == validBits(i);
+            }
+            if (full) {
+                markRowFull(r);
+            }
+        }
+    }
+
+    private int wordIndex(int row, int column) {
+        checkRow(row);
+        if (column < 0 || column >= columns) {
+            throw new IndexOutOfBoundsException("Invalid seat coordinates");
+        }
+        return row * wordsPerRow + (column >>> 6);
+    }
+
+    private void checkWord(int wordIndex) {
+        if (wordIndex < 0 || wordIndex >= wordsPerRow) {
+            throw new IndexOutOfBoundsException("Invalid row word index");
+        }
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= rows) {
+            throw new IndexOutOfBoundsException("Invalid seat coordinates");
+        }
+    }
+}
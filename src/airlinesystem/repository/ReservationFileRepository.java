@@ -1,215 +1,775 @@
-package airlinesystem.repository;
-
-import airlinesystem.model.Baggage;
-import airlinesystem.model.Flight;
-import airlinesystem.model.Passenger;
-import airlinesystem.model.Reservation;
-import airlinesystem.model.Seat;
-import airlinesystem.model.Ticket;
-import airlinesystem.service.FlightManager;
-import airlinesystem.service.ReservationManager;
-import airlinesystem.service.SeatManager;
-
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
-public class ReservationFileRepository {
-
-    private final Path filePath;
-
-    public ReservationFileRepository(String fileName) {
-        this.filePath = Path.of(fileName);
-    }
-
-    /**
-     * Satır formatı (13 alan):
-     * 0  reservationCode
-     * 1  ticketID
-     * 2  flightNum
-     * 3  passengerID
-     * 4  passengerName
-     * 5  contactInfo
-     * 6  passportNum
-     * 7  seatNum
-     * 8  price
-     * 9  baggageAllowance
-     * 10 baggageWeight
-     * 11 active
-     * 12 createdAt (ISO-8601)
-     */
-    public void loadAll(ReservationManager reservationManager,
-                        FlightManager flightManager,
-                        PassengerFileRepository passengerRepo,
-                        SeatManager seatManager) throws IOException {
-
-        List<Reservation> loadedReservations = new ArrayList<>();
-        List<Ticket> loadedTickets = new ArrayList<>();
-
-        if (!Files.exists(filePath)) {
-            reservationManager.loadData(loadedReservations, loadedTickets);
-            return;
-        }
-
-        try (BufferedReader br = Files.newBufferedReader(filePath)) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                line = line.trim();
-                if (line.isEmpty() || line.startsWith("#")) {
-                    continue;
-                }
-
-                String[] parts = line.split(";");
-                if (parts.length != 13) {
-                    continue; // format bozuk
-                }
-
-                String reservationCode   = parts[0];
-                String ticketID          = parts[1];
-                String flightNum         = parts[2];
-                String passengerID       = parts[3];
-                String passengerName     = parts[4];
-                String contactInfo       = parts[5];
-                String passportNum       = parts[6];
-                String seatNum           = parts[7];
-                double price             = Double.parseDouble(parts[8]);
-                double baggageAllowance  = Double.parseDouble(parts[9]);
-                double baggageWeight     = Double.parseDouble(parts[10]);
-                boolean active           = Boolean.parseBoolean(parts[11]);
-                LocalDateTime createdAt  = LocalDateTime.parse(parts[12]);
-
-                // 1) Flight
-                Flight flight = flightManager.findByFlightNum(flightNum);
-                if (flight == null) {
-                    continue;
-                }
-
-                // 2) Passenger (repo'dan bul, yoksa minimal yarat)
-                Passenger passenger = passengerRepo.findById(passengerID);
-                if (passenger == null) {
-                    String name = passengerName;
-                    String surname = "";
-                    int idx = passengerName.lastIndexOf(' ');
-                    if (idx > 0) {
-                        name = passengerName.substring(0, idx);
-                        surname = passengerName.substring(idx + 1);
-                    }
-                    passenger = new Passenger(
-                            passengerID,
-                            name,
-                            surname,
-                            contactInfo,
-                            passportNum
-                    );
-                }
-
-                // 3) Seat
-                Seat seat = seatManager.resolveSeatNumber(flight.getFlightPlane(), seatNum);
-                if (seat == null) {
-                    continue;
-                }
-
-                // 4) Reservation – constructor default olarak active = true yapıyorsa:
-                Reservation reservation = new Reservation(
-                        reservationCode,
-                        flight,
-                        passenger,
-                        seat,
-                        createdAt
-                );
-
-                // 5) Baggage
-                Baggage baggage = baggageWeight > 0 ? new Baggage(baggageWeight) : null;
-
-                // 6) Ticket
-                Ticket ticket = new Ticket(
-                        ticketID,
-                        reservation,
-                        price,
-                        baggageAllowance,
-                        baggage
-                );
-
-                // 7) Aktif / pasif durumuna göre state ayarı
-                if (active) {
-                    // Rezervasyon aktifse koltuk da rezerve olmalı
-                    if (!seat.isReserved()) {
-                        seat.makeReservation();
-                    }
-
-                } else {
-                    reservation.cancel();
-                }
-
-                loadedReservations.add(reservation);
-                loadedTickets.add(ticket);
-            }
-        }
-
-        reservationManager.loadData(loadedReservations, loadedTickets);
-    }
-
-    public void saveAll(List<Reservation> reservations,
-                        List<Ticket> tickets) throws IOException {
-
-        Map<String, Ticket> ticketByResCode = new HashMap<>();
-        for (Ticket t : tickets) {
-            String resCode = t.getReservation().getReservationCode();
-            ticketByResCode.put(resCode, t);
-        }
-
-        try (BufferedWriter bw = Files.newBufferedWriter(filePath)) {
-            for (Reservation r : reservations) {
-                Ticket ticket = ticketByResCode.get(r.getReservationCode());
-                if (ticket == null) {
-                    continue;
-                }
-
-                String reservationCode   = r.getReservationCode();
-                String ticketID          = ticket.getTicketID();
-                String flightNum         = r.getFlight().getFlightNum();
-
-                Passenger p              = r.getPassenger();
-                String passengerID       = p.getPassengerID();
-                String passengerName     = p.getFullName();
-                String contactInfo       = p.getContactInfo();
-                String passportNum       = p.getPassportNum();
-
-                String seatNum           = r.getSeat().getSeatNum();
-                double price             = ticket.getPrice();
-                double baggageAllowance  = ticket.getBaggageAllowance();
-                double baggageWeight     = (ticket.getBaggage() != null)
-                        ? ticket.getBaggage().getWeight()
-                        : 0.0;
-                boolean active           = r.isActive();
-                String createdAt         = r.getReservationDate().toString();
-
-                String line = String.join(";",
-                        reservationCode,
-                        ticketID,
-                        flightNum,
-                        passengerID,
-                        passengerName,
-                        contactInfo,
-                        passportNum,
-                        seatNum,
-                        String.valueOf(price),
-                        String.valueOf(baggageAllowance),
-                        String.valueOf(baggageWeight),
-                        String.valueOf(active),
-                        createdAt
-                );
-
-                bw.write(line);
-                bw.newLine();
-            }
-        }
-    }
-}
+package airlinesystem.repository;
+
+import airlinesystem.concurrent.DurabilityMode;
+import airlinesystem.concurrent.GroupCommitWriter;
+import airlinesystem.model.Baggage;
+import airlinesystem.model.Flight;
+import airlinesystem.model.Passenger;
+import airlinesystem.model.Plane;
+import airlinesystem.model.Reservation;
+import airlinesystem.model.Seat;
+import airlinesystem.model.SeatLabels;
+import airlinesystem.model.SeatOccupancy;
+import airlinesystem.model.Ticket;
+import airlinesystem.service.FlightManager;
+import airlinesystem.service.ReservationManager;
+import airlinesystem.service.SeatManager;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Rezervasyonların kalıcı saklanması: binary snapshot + yalnızca eklenen (append-only) journal.
+ *
+ * - reservations.txt.snap: belli bir andaki tüm aktif rezervasyonlar (format saveSnapshot'ta).
+ *   Eski sürümlerin metin reservations.txt'si snapshot yoksa bir kez okunur ve ilk
+ *   compaction'da snapshot'a taşınır.
+ * - reservations.txt.journal: o snapshot'tan sonraki değişiklikler, her biri tek satır:
+ *     B;(13 alanlı satır)   rezervasyon yapıldı
+ *     C;(reservationCode)   rezervasyon iptal edildi
+ *
+ * Rezervasyon/iptal sadece journal'a bir satır ekler; tüm dosya compaction ile yazılır:
+ * önce journal reservations.txt.journal.old'a döndürülür (rotateJournal, yeni kayıtlar boş bir
+ * journal'a gider), sonra snapshot geçici dosyaya yazılıp diske zorlanır, atomik olarak yerine
+ * taşınır ve döndürülen journal silinir (saveSnapshot).
+ *
+ * Açılışta snapshot'tan sadece uçuş başına koltuk doluluğu okunur ve üstüne önce .journal.old
+ * sonra .journal oynatılır; kuyruğun dokunduğu snapshot kodları diskteki sıralı kod indeksinde
+ * ikili aramayla bulunur. Açılış süresi böylece kuyruk uzunluğuyla orantılıdır. Snapshot
+ * kayıtları nesneye ReservationManager'ın arka plan thread'inde çevrilir (loadData).
+ * Kayıtlar "kodu şu duruma getir" biçiminde olduğu için bir journal'ı zaten içeren snapshot'a
+ * tekrar oynatmak sonucu değiştirmez; compaction'ın herhangi bir adımında çökme güvenlidir.
+ * Çökmede yarım kalmış son satır biçim hatası olarak atlanır.
+ *
+ * Journal yazmaları GroupCommitWriter üzerinden yapılır: append metotları diske dokunmadan
+ * döner, eşzamanlı kayıtlar tek write + fsync ile toplu yazılır ve dönen future kayıt seçilen
+ * DurabilityMode'a göre kalıcı olunca tamamlanır.
+ */
+public class ReservationFileRepository {
+
+    private static final String BOOKING_RECORD = "B;";
+    private static final String CANCEL_RECORD = "C;";
+
+    private static final int SNAPSHOT_MAGIC = 0x52534E50; // "RSNP"
+    private static final int SNAPSHOT_VERSION = 2;
+
+    // SYNC_INTERVAL modunda varsayılan fsync aralığı
+    public static final long DEFAULT_SYNC_INTERVAL_MILLIS = 10;
+
+    private final Path filePath;         // eski metin snapshot'ı (sadece içe aktarma için okunur)
+    private final Path snapshotPath;
+    private final Path journalPath;
+    private final Path rotatedJournalPath;
+    private final GroupCommitWriter journal;
+
+    private volatile int lastReplayedRecords;
+
+    /**
+     * Her toplu yazmadan sonra fsync yapan (SYNC_EVERY_COMMIT) repository.
+     */
+    public ReservationFileRepository(String fileName) {
+        this(fileName, DurabilityMode.SYNC_EVERY_COMMIT, DEFAULT_SYNC_INTERVAL_MILLIS);
+    }
+
+    public ReservationFileRepository(String fileName, DurabilityMode durability, long syncIntervalMillis) {
+        this.filePath = Path.of(fileName);
+        this.snapshotPath = Path.of(fileName + ".snap");
+        this.journalPath = Path.of(fileName + ".journal");
+        this.rotatedJournalPath = Path.of(fileName + ".journal.old");
+        this.journal = new GroupCommitWriter(journalPath, durability, syncIntervalMillis, "reservation-journal");
+    }
+
+    public Path getJournalPath() {
+        return journalPath;
+    }
+
+    public Path getSnapshotPath() {
+        return snapshotPath;
+    }
+
+    public GroupCommitWriter getJournalWriter() {
+        return journal;
+    }
+
+    /**
+     * Rezervasyonları yükler: binary snapshot (yoksa eski metin dosyası) + journal kuyruğu.
+     *
+     * Dönmeden önce sadece snapshot'ın koltuk bölümü geri yüklenir ve journal kuyruğu oynatılır;
+     * koltuk durumu ve yeni rezervasyonlar hemen kullanılabilir. Snapshot kayıtları
+     * ReservationManager tarafından arka planda okunur, kayıtları okuyan metotlar onu bekler.
+     * Journal'ı snapshot'a katlama işi (compaction) da açılışı bekletmez.
+     *
+     * Journal/metin satır formatı (13 alan):
+     * 0  reservationCode
+     * 1  ticketID
+     * 2  flightNum
+     * 3  passengerID
+     * 4  passengerName
+     * 5  contactInfo
+     * 6  passportNum
+     * 7  seatNum
+     * 8  price
+     * 9  baggageAllowance
+     * 10 baggageWeight
+     * 11 active
+     * 12 createdAt (ISO-8601)
+     */
+    public void loadAll(ReservationManager reservationManager,
+                        FlightManager flightManager,
+                        PassengerFileRepository passengerRepo,
+                        SeatManager seatManager) throws IOException {
+
+        // kuyrukta bekleyen kayıtlar varsa önce dosyaya insin
+        await(journal.flush());
+
+        Lookup lookup = new Lookup(flightManager, passengerRepo, seatManager);
+
+        // reservationCode → aktif bilet (eski metin dosyası + journal kuyruğu); sıra korunur
+        Map<String, Ticket> state = new LinkedHashMap<>();
+        // Snapshot'ta olup kuyrukta iptal edilen veya yeniden yazılan kodlar; snapshot'tan okunmaz
+        Set<String> shadowed = new HashSet<>();
+        // Journal'da yapılıp koltuğu başka bir koda ait çıkan kayıtlar (bkz. replayJournal)
+        Set<String> seatNotOwned = new HashSet<>();
+
+        SnapshotFile snapshot = null;
+        boolean legacy = false;
+        if (Files.exists(snapshotPath)) {
+            snapshot = SnapshotFile.open(snapshotPath);
+        } else if (Files.exists(filePath)) {
+            readTextSnapshot(lookup, state);
+            legacy = true;
+        }
+
+        int replayed;
+        try {
+            if (snapshot != null) {
+                snapshot.restoreSeats(flightManager, seatManager);
+            }
+            replayed = replayJournal(rotatedJournalPath, lookup, state, snapshot, shadowed, seatNotOwned)
+                    + replayJournal(journalPath, lookup, state, snapshot, shadowed, seatNotOwned);
+        } catch (IOException | RuntimeException e) {
+            if (snapshot != null) {
+                snapshot.close();
+            }
+            throw e;
+        }
+        lastReplayedRecords = replayed;
+
+        List<Ticket> recent = new ArrayList<>(state.values());
+        if (snapshot == null) {
+            List<Reservation> loadedReservations = new ArrayList<>(recent.size());
+            for (Ticket t : recent) {
+                loadedReservations.add(t.getReservation());
+            }
+            reservationManager.loadData(loadedReservations, recent);
+        } else {
+            // koltuklar zaten dolu; kayıtlar arka planda okunup kuyruktakilerin önüne eklenir
+            SnapshotFile records = snapshot;
+            reservationManager.loadData(recent, () -> records.readRecords(lookup, shadowed));
+        }
+
+        // Journal'ı (veya eski metin dosyasını) binary snapshot'a katla; bir sonraki açılış
+        // sadece snapshot'ı okur. Sadece bozuk satır içeren bir journal da bu şekilde temizlenir.
+        if (replayed > 0 || legacy || Files.exists(journalPath) || Files.exists(rotatedJournalPath)) {
+            reservationManager.compactInBackground();
+        }
+    }
+
+    /**
+     * Son loadAll'da snapshot üstüne oynatılan journal kaydı sayısı.
+     */
+    public int getLastReplayedRecords() {
+        return lastReplayedRecords;
+    }
+
+    /**
+     * Eski metin formatındaki reservations.txt (binary snapshot'tan önceki sürümler); bir kez
+     * okunur, ilk compaction'da binary snapshot'a taşınır.
+     */
+    private void readTextSnapshot(Lookup lookup, Map<String, Ticket> state) throws IOException {
+        try (BufferedReader br = Files.newBufferedReader(filePath)) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = line.split(";");
+                Ticket ticket = parts.length == 13 ? lookup.parseTicket(parts) : null;
+                if (ticket != null && ticket.getReservation().isActive()) {
+                    ticket.getReservation().getSeat().tryClaim();
+                    state.put(parts[0], ticket);
+                }
+            }
+        }
+    }
+
+    /**
+     * Journal kayıtlarını sırayla uygular (B: ekle/yenile, C: sil) ve koltukları buna göre
+     * alır/bırakır. Uygulanan kayıt sayısını döner.
+     *
+     * Snapshot rotasyondan sonraki bazı değişiklikleri zaten içerebilir; bu yüzden koltuğu
+     * başka bir kodda dolu bulunan B kaydı koltuğun sahibi sayılmaz (seatNotOwned) ve
+     * iptalinde koltuğu bırakmaz. Snapshot'taki bir koda dokunan kayıt o kodu shadowed'a
+     * ekler: snapshot kaydı yüklenmez, yerine (varsa) kuyruktaki kayıt geçer.
+     */
+    private int replayJournal(Path path, Lookup lookup, Map<String, Ticket> state, SnapshotFile snapshot,
+                              Set<String> shadowed, Set<String> seatNotOwned) throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        int applied = 0;
+        try (BufferedReader br = Files.newBufferedReader(path)) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                line = line.trim();
+                String cancelled;
+                if (line.startsWith(BOOKING_RECORD)) {
+                    String[] parts = line.substring(BOOKING_RECORD.length()).split(";");
+                    Ticket ticket = parts.length == 13 ? lookup.parseTicket(parts) : null;
+                    if (ticket == null) {
+                        continue; // yarım kalmış satır ya da artık olmayan uçuş/koltuk
+                    }
+                    applied++;
+                    if (ticket.getReservation().isActive()) {
+                        // iptal sonrası aynı kodla yeni rezervasyon listenin sonuna gider;
+                        // snapshot'taki aynı kod (aynı koltuk) koltuğu zaten tutuyor
+                        Ticket previous = state.remove(parts[0]);
+                        state.put(parts[0], ticket);
+                        if (previous == null && shadow(snapshot, parts[0], shadowed) == null
+                                && !ticket.getReservation().getSeat().tryClaim()) {
+                            seatNotOwned.add(parts[0]);
+                        }
+                        continue;
+                    }
+                    cancelled = parts[0];
+                } else if (line.startsWith(CANCEL_RECORD)) {
+                    applied++;
+                    cancelled = line.substring(CANCEL_RECORD.length());
+                } else {
+                    continue;
+                }
+
+                Ticket previous = state.remove(cancelled);
+                if (previous != null) {
+                    if (!seatNotOwned.remove(cancelled)) {
+                        previous.getReservation().getSeat().release();
+                    }
+                    continue;
+                }
+                String[] record = shadow(snapshot, cancelled, shadowed);
+                Seat seat = record == null ? null : lookup.findSeat(record[0], record[1]);
+                if (seat != null) {
+                    seat.release();
+                }
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * Kod snapshot'ta hâlâ geçerliyse artık geçersiz işaretler ve kaydın {flightNum, seatNum}'ını
+     * döner; değilse null.
+     */
+    private static String[] shadow(SnapshotFile snapshot, String code, Set<String> shadowed) throws IOException {
+        if (snapshot == null || shadowed.contains(code)) {
+            return null;
+        }
+        String[] record = snapshot.find(code);
+        if (record != null) {
+            shadowed.add(code);
+        }
+        return record;
+    }
+
+    /**
+     * Yeni rezervasyonları journal kuyruğuna ekler (grup için tek kayıt bloğu).
+     * Future, kayıtlar kalıcı olunca tamamlanır; yazma hatası future'a IOException olarak düşer.
+     */
+    public CompletableFuture<Void> appendBookings(List<Ticket> tickets) {
+        StringBuilder sb = new StringBuilder(tickets.size() * 160);
+        for (Ticket t : tickets) {
+            sb.append(BOOKING_RECORD).append(formatLine(t.getReservation(), t)).append(System.lineSeparator());
+        }
+        return journal.append(sb);
+    }
+
+    /**
+     * Rezervasyon iptalini journal kuyruğuna ekler.
+     */
+    public CompletableFuture<Void> appendCancel(String reservationCode) {
+        return journal.append(CANCEL_RECORD + reservationCode + System.lineSeparator());
+    }
+
+    /**
+     * Bekleyen journal kayıtlarını yazıp diske zorlar ve yazıcı thread'ini durdurur.
+     */
+    public void close() {
+        journal.close();
+    }
+
+    private static void await(CompletableFuture<Void> future) throws IOException {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Compaction'ın ilk adımı: kuyruktaki kayıtlar yazıldıktan sonra journal'ı bir kenara
+     * ayırır; bundan sonraki append'ler yeni journal'a gider. Sadece kuyruğa koyar, beklemez.
+     * Çağıran, bu çağrıdan önce journal'a giren her değişikliğin bellekte görünür olmasını
+     * sağlamalıdır (ReservationManager'da fileLock).
+     */
+    public CompletableFuture<Void> rotateJournal() {
+        return journal.rotate(rotatedJournalPath);
+    }
+
+    /**
+     * Compaction'ın ikinci adımı (rotateJournal tamamlandıktan sonra): verilen durumu yeni
+     * binary snapshot olarak yazar ve döndürülen journal'ı siler. Snapshot önce geçici dosyaya
+     * yazılıp diske zorlanır, sonra atomik olarak yerine taşınır; böylece yarım yazılmış bir
+     * snapshot hiç oluşmaz. Durum rotasyondan sonra okunmuş olmalıdır; rotasyondan sonraki
+     * değişiklikleri içermesi sorun değildir (yeni journal tekrar oynatılır).
+     *
+     * Format (DataOutputStream):
+     * - magic, version, koltuk bölümü uzunluğu, koltuk bölümü, koltuk bölümünün CRC32'si.
+     *   Koltuk bölümü: uçuş sayısı, her uçuş için flightNum, rows, columns ve
+     *   SeatOccupancy.toWords() bitmap'i. Yazılan kayıtlardan kurulur, kayıtlarla hep aynıdır.
+     * - kayıt sayısı, her rezervasyon için journal satırındaki alanlar (createdAt epoch saniye
+     *   + nano), kayıtların dosya ofsetleri (koda göre sıralı), bu indeksin ofseti ve kayıt
+     *   sayısından itibaren her şeyin CRC32'si.
+     * Açılışta sadece koltuk bölümü okunur; kuyruktaki kodlar indeksten ikili aramayla bulunur.
+     */
+    public void saveSnapshot(List<Reservation> reservations,
+                             List<Ticket> tickets) throws IOException {
+
+        Map<String, Ticket> ticketByResCode = new HashMap<>();
+        for (Ticket t : tickets) {
+            String resCode = t.getReservation().getReservationCode();
+            ticketByResCode.put(resCode, t);
+        }
+
+        // Sadece aktif ve bileti olan rezervasyonlar
+        List<Ticket> rows = new ArrayList<>(reservations.size());
+        for (Reservation r : reservations) {
+            Ticket ticket = ticketByResCode.get(r.getReservationCode());
+            if (ticket != null && r.isActive()) {
+                rows.add(ticket);
+            }
+        }
+
+        // Uçuş başına doluluk, yazılan kayıtların koltuklarından
+        Map<String, SeatOccupancy> occupancyByFlight = new LinkedHashMap<>();
+        for (Ticket t : rows) {
+            Reservation r = t.getReservation();
+            Plane plane = r.getFlight().getFlightPlane();
+            SeatOccupancy occupancy = occupancyByFlight.computeIfAbsent(r.getFlight().getFlightNum(),
+                    k -> new SeatOccupancy(plane.getRows(), plane.getColumns()));
+            int index = SeatLabels.parseIndex(r.getSeat().getSeatNum(), occupancy.getRows(), occupancy.getColumns());
+            if (index >= 0) {
+                occupancy.tryClaim(index / occupancy.getColumns(), index % occupancy.getColumns());
+            }
+        }
+        ByteArrayOutputStream seatBytes = new ByteArrayOutputStream();
+        DataOutputStream seatOut = new DataOutputStream(seatBytes);
+        seatOut.writeInt(occupancyByFlight.size());
+        for (Map.Entry<String, SeatOccupancy> e : occupancyByFlight.entrySet()) {
+            long[] words = e.getValue().toWords();
+            seatOut.writeUTF(e.getKey());
+            seatOut.writeInt(e.getValue().getRows());
+            seatOut.writeInt(e.getValue().getColumns());
+            seatOut.writeInt(words.length);
+            for (long w : words) {
+                seatOut.writeLong(w);
+            }
+        }
+        byte[] seatSection = seatBytes.toByteArray();
+        CRC32 seatCrc = new CRC32();
+        seatCrc.update(seatSection);
+
+        Path tmp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try (FileOutputStream file = new FileOutputStream(tmp.toFile())) {
+            CheckedOutputStream checked = new CheckedOutputStream(file, new CRC32());
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(checked, 1 << 16));
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeInt(seatSection.length);
+            out.write(seatSection);
+            out.writeLong(seatCrc.getValue());
+            out.flush();
+            checked.getChecksum().reset();
+
+            long[] offsets = new long[rows.size()];
+            out.writeInt(rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                Ticket t = rows.get(i);
+                offsets[i] = out.size();
+                Reservation r = t.getReservation();
+                Passenger p = r.getPassenger();
+                out.writeUTF(r.getReservationCode());
+                out.writeUTF(t.getTicketID());
+                out.writeUTF(r.getFlight().getFlightNum());
+                out.writeUTF(p.getPassengerID());
+                out.writeUTF(p.getFullName());
+                out.writeUTF(p.getContactInfo());
+                out.writeUTF(p.getPassportNum());
+                out.writeUTF(r.getSeat().getSeatNum());
+                out.writeDouble(t.getPrice());
+                out.writeDouble(t.getBaggageAllowance());
+                out.writeDouble(t.getBaggage() != null ? t.getBaggage().getWeight() : 0.0);
+                out.writeLong(r.getReservationDate().toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(r.getReservationDate().getNano());
+            }
+
+            // koda göre sıralı ofsetler: açılışta kuyruğun dokunduğu kodlar için ikili arama
+            Integer[] byCode = new Integer[rows.size()];
+            for (int i = 0; i < byCode.length; i++) {
+                byCode[i] = i;
+            }
+            Arrays.sort(byCode, (a, b) -> rows.get(a).getReservation().getReservationCode()
+                    .compareTo(rows.get(b).getReservation().getReservationCode()));
+            long indexOffset = out.size();
+            for (int i : byCode) {
+                out.writeLong(offsets[i]);
+            }
+            out.writeLong(indexOffset);
+
+            out.flush();
+            out.writeLong(checked.getChecksum().getValue());
+            out.flush();
+            file.getFD().sync();
+        }
+
+        try {
+            Files.move(tmp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, snapshotPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        // Bu noktadan önce çökülürse döndürülen journal eski snapshot'a tekrar oynatılır (kayıp yok).
+        // Eski metin dosyasının içeriği artık snapshot'ta.
+        Files.deleteIfExists(rotatedJournalPath);
+        Files.deleteIfExists(filePath);
+    }
+
+    /**
+     * Eşzamanlı yazma yokken tam compaction: journal'ı döndürür ve snapshot'ı yazar.
+     */
+    public void saveAll(List<Reservation> reservations,
+                        List<Ticket> tickets) throws IOException {
+        await(rotateJournal());
+        saveSnapshot(reservations, tickets);
+    }
+
+    /**
+     * Açık bir binary snapshot (format saveSnapshot'ta). Koltuk bölümü açılışta okunur,
+     * kuyruğun dokunduğu kodlar sıralı ofset indeksinde ikili aramayla bulunur; kayıtların
+     * kendisi readRecords ile bir kez sırayla okunur ve dosya kapanır. Dosya açılışta
+     * açıldığı için arada yazılan yeni snapshot okumayı etkilemez.
+     */
+    private static final class SnapshotFile implements Closeable {
+        private static final int HEADER_BYTES = 12; // magic, version, koltuk bölümü uzunluğu
+
+        private final Path path;
+        private final RandomAccessFile file;
+        private long recordsOffset;
+        private long indexOffset;
+        private int count;
+
+        private SnapshotFile(Path path, RandomAccessFile file) {
+            this.path = path;
+            this.file = file;
+        }
+
+        static SnapshotFile open(Path path) throws IOException {
+            return new SnapshotFile(path, new RandomAccessFile(path.toFile(), "r"));
+        }
+
+        /**
+         * Koltuk bölümünü doğrulayıp her uçuşun doluluğunu envanterine yükler. Artık olmayan
+         * uçuşlar atlanır (kayıtları da Lookup'ta düşer).
+         */
+        void restoreSeats(FlightManager flightManager, SeatManager seatManager) throws IOException {
+            byte[] seatSection;
+            try {
+                file.seek(0);
+                if (file.readInt() != SNAPSHOT_MAGIC || file.readInt() != SNAPSHOT_VERSION) {
+                    throw new IOException("Unsupported reservation snapshot: " + path);
+                }
+                int length = file.readInt();
+                if (length < 0 || HEADER_BYTES + length + 8L + 4 + 16 > file.length()) {
+                    throw new EOFException();
+                }
+                seatSection = new byte[length];
+                file.readFully(seatSection);
+                CRC32 crc = new CRC32();
+                crc.update(seatSection);
+                if (file.readLong() != crc.getValue()) {
+                    throw new IOException("Reservation snapshot is corrupt (checksum mismatch): " + path);
+                }
+                recordsOffset = HEADER_BYTES + length + 8L;
+
+                file.seek(file.length() - 16);
+                indexOffset = file.readLong();
+                long indexBytes = file.length() - 16 - indexOffset;
+                if (indexOffset <= recordsOffset || indexBytes < 0 || indexBytes % 8 != 0) {
+                    throw new IOException("Reservation snapshot is corrupt (bad index): " + path);
+                }
+                count = (int) (indexBytes / 8);
+            } catch (EOFException e) {
+                throw new IOException("Reservation snapshot is truncated: " + path, e);
+            }
+
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(seatSection));
+            int flights = in.readInt();
+            for (int i = 0; i < flights; i++) {
+                String flightNum = in.readUTF();
+                int rows = in.readInt();
+                int columns = in.readInt();
+                long[] words = new long[in.readInt()];
+                for (int w = 0; w < words.length; w++) {
+                    words[w] = in.readLong();
+                }
+                Flight flight = flightManager.findByFlightNum(flightNum);
+                if (flight != null) {
+                    seatManager.getInventory(flight).restoreReserved(rows, columns, words);
+                }
+            }
+        }
+
+        /**
+         * Kodun snapshot kaydındaki {flightNum, seatNum}; kod snapshot'ta yoksa null.
+         * O(log n) konumlu okuma.
+         */
+        String[] find(String code) throws IOException {
+            try {
+                int lo = 0;
+                int hi = count - 1;
+                while (lo <= hi) {
+                    int mid = (lo + hi) >>> 1;
+                    file.seek(indexOffset + 8L * mid);
+                    file.seek(file.readLong());
+                    int c = file.readUTF().compareTo(code);
+                    if (c < 0) {
+                        lo = mid + 1;
+                    } else if (c > 0) {
+                        hi = mid - 1;
+                    } else {
+                        file.readUTF();                         // ticketID
+                        String flightNum = file.readUTF();
+                        for (int skip = 0; skip < 4; skip++) {  // yolcu alanları
+                            file.readUTF();
+                        }
+                        return new String[] {flightNum, file.readUTF()};
+                    }
+                }
+                return null;
+            } catch (EOFException e) {
+                throw new IOException("Reservation snapshot is corrupt (bad index): " + path, e);
+            }
+        }
+
+        /**
+         * Kayıtları sırayla okuyup bilete çevirir (skip'teki kodlar hariç) ve CRC'yi doğrular;
+         * koltuklara dokunmaz. Sonunda dosyayı kapatır.
+         */
+        List<Ticket> readRecords(Lookup lookup, Set<String> skip) throws IOException {
+            try (RandomAccessFile f = file) {
+                f.seek(recordsOffset);
+                CheckedInputStream checked = new CheckedInputStream(
+                        new BufferedInputStream(Channels.newInputStream(f.getChannel()), 1 << 16), new CRC32());
+                DataInputStream in = new DataInputStream(checked);
+                int n = in.readInt();
+                if (n != count) {
+                    throw new IOException("Reservation snapshot is corrupt (bad index): " + path);
+                }
+                List<Ticket> tickets = new ArrayList<>(n);
+                for (int i = 0; i < n; i++) {
+                    String reservationCode  = in.readUTF();
+                    String ticketID         = in.readUTF();
+                    String flightNum        = in.readUTF();
+                    String passengerID      = in.readUTF();
+                    String passengerName    = in.readUTF();
+                    String contactInfo      = in.readUTF();
+                    String passportNum      = in.readUTF();
+                    String seatNum          = in.readUTF();
+                    double price            = in.readDouble();
+                    double baggageAllowance = in.readDouble();
+                    double baggageWeight    = in.readDouble();
+                    LocalDateTime createdAt = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+                    if (skip.contains(reservationCode)) {
+                        continue;
+                    }
+
+                    Ticket ticket = lookup.newTicket(reservationCode, ticketID, flightNum, passengerID, passengerName,
+                            contactInfo, passportNum, seatNum, price, baggageAllowance, baggageWeight, createdAt);
+                    if (ticket != null) {
+                        tickets.add(ticket);
+                    }
+                }
+                in.skipNBytes(8L * count + 8); // ofset indeksi ve ofseti (CRC'ye dahil)
+
+                long actual = checked.getChecksum().getValue();
+                if (in.readLong() != actual) {
+                    throw new IOException("Reservation snapshot is corrupt (checksum mismatch): " + path);
+                }
+                return tickets;
+            } catch (EOFException e) {
+                throw new IOException("Reservation snapshot is truncated: " + path, e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            file.close();
+        }
+    }
+
+    /**
+     * Kayıt alanlarından Ticket/Reservation kurar: uçuş ve koltuk çözülür, yolcu repo'da
+     * yoksa kayıttaki bilgilerle minimal yaratılır. Uçuş veya koltuk yoksa null.
+     * Koltuğun durumuna dokunmaz.
+     */
+    private static final class Lookup {
+        final FlightManager flightManager;
+        final PassengerFileRepository passengerRepo;
+        final SeatManager seatManager;
+
+        Lookup(FlightManager flightManager, PassengerFileRepository passengerRepo, SeatManager seatManager) {
+            this.flightManager = flightManager;
+            this.passengerRepo = passengerRepo;
+            this.seatManager = seatManager;
+        }
+
+        /**
+         * Uçuş ve koltuk numarasından koltuk görünümü; uçuş veya koltuk yoksa null.
+         */
+        Seat findSeat(String flightNum, String seatNum) {
+            Flight flight = flightManager.findByFlightNum(flightNum);
+            return flight == null ? null : seatManager.resolveSeatNumber(flight, seatNum);
+        }
+
+        /**
+         * 13 alanlı metin satırından; sayı/tarih alanı bozuksa (ör. yarım kalmış satır) null.
+         */
+        Ticket parseTicket(String[] parts) {
+            try {
+                Ticket ticket = newTicket(parts[0], parts[1], parts[2], parts[3], parts[4], parts[5], parts[6],
+                        parts[7], Double.parseDouble(parts[8]), Double.parseDouble(parts[9]),
+                        Double.parseDouble(parts[10]), LocalDateTime.parse(parts[12]));
+                if (ticket != null && !Boolean.parseBoolean(parts[11])) {
+                    ticket.getReservation().cancel();
+                }
+                return ticket;
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+
+        Ticket newTicket(String reservationCode, String ticketID, String flightNum,
+                         String passengerID, String passengerName, String contactInfo, String passportNum,
+                         String seatNum, double price, double baggageAllowance, double baggageWeight,
+                         LocalDateTime createdAt) {
+            // 1) Flight
+            Flight flight = flightManager.findByFlightNum(flightNum);
+            if (flight == null) {
+                return null;
+            }
+
+            // 2) Passenger (repo'dan bul, yoksa minimal yarat)
+            Passenger passenger = passengerRepo.findById(passengerID);
+            if (passenger == null) {
+                String name = passengerName;
+                String surname = "";
+                int idx = passengerName.lastIndexOf(' ');
+                if (idx > 0) {
+                    name = passengerName.substring(0, idx);
+                    surname = passengerName.substring(idx + 1);
+                }
+                passenger = new Passenger(passengerID, name, surname, contactInfo, passportNum);
+            }
+
+            // 3) Seat
+            Seat seat = seatManager.resolveSeatNumber(flight, seatNum);
+            if (seat == null) {
+                return null;
+            }
+
+            // 4) Reservation + Baggage + Ticket
+            Reservation reservation = new Reservation(reservationCode, flight, passenger, seat, createdAt);
+            Baggage baggage = baggageWeight > 0 ? new Baggage(baggageWeight) : null;
+            return new Ticket(ticketID, reservation, price, baggageAllowance, baggage);
+        }
+    }
+
+    private static String formatLine(Reservation r, Ticket ticket) {
+        String reservationCode   = r.getReservationCode();
+        String ticketID          = ticket.getTicketID();
+        String flightNum         = r.getFlight().getFlightNum();
+
+        Passenger p              = r.getPassenger();
+        String passengerID       = p.getPassengerID();
+        String passengerName     = p.getFullName();
+        String contactInfo       = p.getContactInfo();
+        String passportNum       = p.getPassportNum();
+
+        String seatNum           = r.getSeat().getSeatNum();
+        double price             = ticket.getPrice();
+        double baggageAllowance  = ticket.getBaggageAllowance();
+        double baggageWeight     = (ticket.getBaggage() != null)
+                ? ticket.getBaggage().getWeight()
+                : 0.0;
+        boolean active           = r.isActive();
+        String createdAt         = r.getReservationDate().toString();
+
+        return String.join(";",
+                reservationCode,
+                ticketID,
+                flightNum,
+                passengerID,
+                passengerName,
+                contactInfo,
+                passportNum,
+                seatNum,
+                String.valueOf(price),
+                String.valueOf(baggageAllowance),
+                String.valueOf(baggageWeight),
+                String.valueOf(active),
+                createdAt
+        );
+    }
+}
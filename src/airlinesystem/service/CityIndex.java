@@ -0,0 +1,95 @@
+package airlinesystem.service;
+
+import airlinesystem.model.Route;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Katalogdaki şehirlerin sıralı indeksi (otomatik tamamlama için).
+ *
+ * Anahtar Route.cityKey'dir (büyük/küçük harf duyarsız); "ist" önekindeki tüm şehirler
+ * tek bir aralık taramasıdır. Her şehir için o şehirden kalkan veya oraya inen uçuş
+ * sayısı tutulur; sayı sıfıra inince şehir indeksten çıkar. FlightManager her uçuşu
+ * indekse eklerken/çıkarırken artımlı günceller. Okuma kilitsizdir (UI thread'i için).
+ */
+public class CityIndex {
+
+    private final ConcurrentSkipListMap<String, City> cities = new ConcurrentSkipListMap<>();
+
+    void add(String city) {
+        String key = Route.cityKey(city);
+        // ilk görülen yazım gösterimde kullanılır
+        cities.merge(key, new City(city, 1), (old, ignored) -> new City(old.name, old.flightCount + 1));
+    }
+
+    void remove(String city) {
+        // 1 → null döndürünce şehir silinir
+        cities.computeIfPresent(Route.cityKey(city),
+                (k, old) -> old.flightCount > 1 ? new City(old.name, old.flightCount - 1) : null);
+    }
+
+    /**
+     * prefix ile başlayan şehirler (alfabetik, en fazla limit tane). Boş prefix tüm şehirler demektir.
+     */
+    public List<String> suggest(String prefix, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        List<String> result = new ArrayList<>(Math.min(limit, 16));
+        for (City c : withPrefix(prefix).values()) {
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(c.name);
+        }
+        return result;
+    }
+
+    /**
+     * prefix ile başlayan farklı şehir sayısı.
+     */
+    public int countWithPrefix(String prefix) {
+        return withPrefix(prefix).size();
+    }
+
+    /**
+     * Şehre dokunan (kalkış veya varış) uçuş sayısı; bilinmeyen şehir için 0.
+     */
+    public int getFlightCount(String city) {
+        if (city == null) {
+            return 0;
+        }
+        City c = cities.get(Route.cityKey(city));
+        return c == null ? 0 : c.flightCount;
+    }
+
+    public boolean contains(String city) {
+        return city != null && cities.containsKey(Route.cityKey(city));
+    }
+
+    public int size() {
+        return cities.size();
+    }
+
+    private NavigableMap<String, City> withPrefix(String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            return cities;
+        }
+        String from = Route.cityKey(prefix);
+        // from ile başlayan tüm anahtarlar [from, from + '￿') aralığındadır
+        return cities.subMap(from, true, from + Character.MAX_VALUE, false);
+    }
+
+    private static final class City {
+        private final String name;
+        private final int flightCount;
+
+        City(String name, int flightCount) {
+            this.name = name;
+            this.flightCount = flightCount;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package airlinesystem.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Koda göre O(1) erişilen, eklenme sırasını koruyan eşzamanlı kayıt listesi
+ * (rezervasyonlar ve biletler için; kod = reservation code).
+ *
+ * Her kayıt artan bir sıra numarası alır: kod → (sıra, kayıt) hash indeksi bulma ve
+ * silmeyi, sıra → kayıt skip list'i sıralı listelemeyi sağlar. İkisi de kilitsizdir;
+ * aynı kod üzerindeki işlemleri çağıran taraf sıraya koyar (ReservationManager'da uçuş kilidi).
+ *
+ * Silme O(1)'dir: kayıt hash indeksinden çıkar ve tombstone olarak işaretlenir, skip list'teki
+ * yeri purge() çağrılana kadar (arka plan compaction'ı) durur; values() tombstone'ları atlar.
+ */
+final class CodeIndex<T> {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, Entry<T>> byCode = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, Entry<T>> inOrder = new ConcurrentSkipListMap<>();
+
+    // Henüz skip list'ten temizlenmemiş silinmiş kayıtların sıra numaraları
+    private final Queue<Long> tombstones = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger tombstoneCount = new AtomicInteger();
+
+    /**
+     * Kaydı listenin sonuna ekler; aynı kodla eski bir kayıt varsa onun yerini alır.
+     */
+    void add(String code, T value) {
+        Entry<T> entry = new Entry<>(sequence.incrementAndGet(), value);
+        inOrder.put(entry.seq, entry);
+        Entry<T> previous = byCode.put(code, entry);
+        if (previous != null) {
+            bury(previous);
+        }
+    }
+
+    /**
+     * Kaydı add ile eklenmiş tüm kayıtların önüne koyar (rank < 0, küçük olan önce); açılışta
+     * arka planda okunan eski kayıtlar için. Kod zaten varsa eklenmez ve false döner.
+     */
+    boolean addOlder(long rank, String code, T value) {
+        Entry<T> entry = new Entry<>(rank, value);
+        if (byCode.putIfAbsent(code, entry) != null) {
+            return false;
+        }
+        inOrder.put(rank, entry);
+        return true;
+    }
+
+    T get(String code) {
+        Entry<T> entry = code == null ? null : byCode.get(code);
+        return entry == null ? null : entry.value;
+    }
+
+    /**
+     * Koda ait kaydı çıkarır ve döner; yoksa null.
+     */
+    T remove(String code) {
+        Entry<T> entry = byCode.remove(code);
+        if (entry == null) {
+            return null;
+        }
+        bury(entry);
+        return entry.value;
+    }
+
+    private void bury(Entry<T> entry) {
+        entry.removed = true;
+        tombstones.add(entry.seq);
+        tombstoneCount.incrementAndGet();
+    }
+
+    /**
+     * Tombstone'ları skip list'ten çıkarır (O(k log n)); temizlenen kayıt sayısını döner.
+     * Ekleme/silmelerle eşzamanlı çağrılabilir.
+     */
+    int purge() {
+        int purged = 0;
+        Long seq;
+        while ((seq = tombstones.poll()) != null) {
+            inOrder.remove(seq);
+            tombstoneCount.decrementAndGet();
+            purged++;
+        }
+        return purged;
+    }
+
+    /**
+     * Silinmiş ama henüz purge edilmemiş kayıt sayısı.
+     */
+    int getTombstoneCount() {
+        return tombstoneCount.get();
+    }
+
+    /**
+     * Eklenme sırasıyla (silinmemiş) kayıtların değişmez kopyası.
+     */
+    List<T> values() {
+        List<T> live = new ArrayList<>(byCode.size());
+        for (Entry<T> entry : inOrder.values()) {
+            if (!entry.removed) {
+                live.add(entry.value);
+            }
+        }
+        return List.copyOf(live);
+    }
+
+    int size() {
+        return byCode.size();
+    }
+
+    void clear() {
+        byCode.clear();
+        inOrder.clear();
+        tombstones.clear();
+        tombstoneCount.set(0);
+    }
+
+    private static final class Entry<T> {
+        final long seq;
+        final T value;
+        volatile boolean removed;
+
+        Entry(long seq, T value) {
+            this.seq = seq;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package airlinesystem.service;
+
+import airlinesystem.model.Flight;
+import airlinesystem.model.Itinerary;
+import airlinesystem.model.Plane;
+import airlinesystem.model.Route;
+import airlinesystem.model.SeatInventory;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * İki şehir arasında en fazla N bacaklı (aktarmalı) yolculukları bulur.
+ *
+ * FlightManager'ın rota grafı ve havalimanı başına zamana göre sıralı kalkışları kullanılır:
+ * önce varış şehrinden geriye doğru BFS ile "varışa kaç bacak kaldı" hesaplanır,
+ * sonra kalkış şehrinden ileri doğru sadece bu mesafeye sığan havalimanlarına ve
+ * [iniş + min aktarma, iniş + max aktarma) penceresindeki kalkışlara bakılır.
+ * Her bacakta istenen sayıda boş koltuk olmalıdır.
+ */
+public class ConnectionSearchEngine {
+
+    public static final Duration DEFAULT_MIN_CONNECTION = Duration.ofMinutes(45);
+    public static final Duration DEFAULT_MAX_CONNECTION = Duration.ofHours(12);
+    public static final int DEFAULT_MAX_RESULTS = 50;
+
+    // Sonuç sırası: önce en erken varış, sonra en az bacak, sonra en geç kalkış
+    private static final Comparator<Itinerary> BY_ARRIVAL =
+            Comparator.comparingLong(Itinerary::getArrivalEpochSecond)
+                    .thenComparingInt(Itinerary::getLegCount)
+                    .thenComparing(Comparator.comparingLong(Itinerary::getDepartureEpochSecond).reversed());
+
+    private final FlightManager flightManager;
+    private final SeatManager seatManager;
+    private final long minConnectionSeconds;
+    private final long maxConnectionSeconds;
+    private final int maxResults;
+
+    public ConnectionSearchEngine(FlightManager flightManager, SeatManager seatManager) {
+        this(flightManager, seatManager, DEFAULT_MIN_CONNECTION, DEFAULT_MAX_CONNECTION, DEFAULT_MAX_RESULTS);
+    }
+
+    public ConnectionSearchEngine(FlightManager flightManager,
+                                  SeatManager seatManager,
+                                  Duration minConnection,
+                                  Duration maxConnection,
+                                  int maxResults) {
+        if (flightManager == null || seatManager == null) {
+            throw new IllegalArgumentException("FlightManager and SeatManager cannot be null");
+        }
+        if (minConnection == null || maxConnection == null
+                || minConnection.isNegative() || maxConnection.compareTo(minConnection) < 0) {
+            throw new IllegalArgumentException("Invalid connection time window");
+        }
+        if (maxResults <= 0) {
+            throw new IllegalArgumentException("Max results must be positive");
+        }
+        this.flightManager = flightManager;
+        this.seatManager = seatManager;
+        this.minConnectionSeconds = minConnection.getSeconds();
+        this.maxConnectionSeconds = maxConnection.getSeconds();
+        this.maxResults = maxResults;
+    }
+
+    /**
+     * Verilen gün (ve now'dan sonra) kalkan, en fazla maxLegs bacaklı yolculuklar.
+     */
+    public List<Itinerary> search(String origin, String destination, LocalDate date,
+                                  LocalDateTime now, int maxLegs, int passengers) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        if (now == null) {
+            now = LocalDateTime.now();
+        }
+        LocalDateTime dayStart = date.atStartOfDay();
+        LocalDateTime from = now.isAfter(dayStart) ? now : dayStart;
+        return search(origin, destination, from, date.plusDays(1).atStartOfDay(), maxLegs, passengers);
+    }
+
+    /**
+     * İlk bacağı [departAfter, departBefore) aralığında kalkan, en fazla maxLegs bacaklı yolculuklar.
+     * Sonuçlar varış zamanına göre sıralıdır ve en fazla maxResults tanedir.
+     */
+    public List<Itinerary> search(String origin, String destination,
+                                  LocalDateTime departAfter, LocalDateTime departBefore,
+                                  int maxLegs, int passengers) {
+        if (origin == null || destination == null) {
+            throw new IllegalArgumentException("Origin and destination cannot be null");
+        }
+        if (departAfter == null || departBefore == null) {
+            throw new IllegalArgumentException("Departure window cannot be null");
+        }
+        if (maxLegs <= 0) {
+            throw new IllegalArgumentException("Max legs must be positive");
+        }
+        if (passengers <= 0) {
+            throw new IllegalArgumentException("Passenger count must be positive");
+        }
+
+        String originKey = Route.cityKey(origin);
+        String destinationKey = Route.cityKey(destination);
+        if (originKey.equals(destinationKey)) {
+            throw new IllegalArgumentException("Origin and destination must be different");
+        }
+
+        Map<String, Integer> legsToDestination = legsToDestination(destinationKey, maxLegs);
+        if (!legsToDestination.containsKey(originKey)) {
+            return new ArrayList<>(); // maxLegs içinde bağlantı yok
+        }
+
+        Query q = new Query(destinationKey, maxLegs, passengers, legsToDestination);
+        q.visited.add(originKey);
+        for (Flight first : flightManager.getDeparturesFrom(origin, departAfter, departBefore)) {
+            extend(q, first);
+        }
+
+        q.results.sort(BY_ARRIVAL);
+        return q.results.size() > maxResults
+                ? new ArrayList<>(q.results.subList(0, maxResults))
+                : q.results;
+    }
+
+    /**
+     * Varış şehrinden geriye BFS: şehir → varışa en az kaç bacak (en fazla maxLegs).
+     */
+    private Map<String, Integer> legsToDestination(String destinationKey, int maxLegs) {
+        Map<String, Integer> distance = new HashMap<>();
+        distance.put(destinationKey, 0);
+        Deque<String> queue = new ArrayDeque<>();
+        queue.add(destinationKey);
+        while (!queue.isEmpty()) {
+            String city = queue.poll();
+            int d = distance.get(city);
+            if (d == maxLegs) {
+                continue;
+            }
+            for (String prev : flightManager.getOriginsTo(city)) {
+                if (!distance.containsKey(prev)) {
+                    distance.put(prev, d + 1);
+                    queue.add(prev);
+                }
+            }
+        }
+        return distance;
+    }
+
+    private void extend(Query q, Flight leg) {
+        String arrivalKey = Route.cityKey(leg.getArrivalPlace());
+        if (q.visited.contains(arrivalKey)) {
+            return; // aynı şehre geri dönen döngüleri alma
+        }
+
+        boolean arrives = arrivalKey.equals(q.destinationKey);
+        if (!arrives) {
+            // bu bacaktan sonra kalan bacak hakkıyla varışa ulaşılamıyorsa hiç inme
+            Integer needed = q.legsToDestination.get(arrivalKey);
+            int remaining = q.maxLegs - q.path.size() - 1;
+            if (needed == null || needed > remaining) {
+                return;
+            }
+        }
+
+        // Koltuk kontrolü en sona: sadece işe yarayacak bacaklar için
+        if (availableSeats(leg) < q.passengers) {
+            return;
+        }
+
+        q.path.addLast(leg);
+        if (arrives) {
+            q.results.add(new Itinerary(new ArrayList<>(q.path)));
+        } else {
+            q.visited.add(arrivalKey);
+            long landed = leg.getArrivalEpochSecond();
+            for (Flight next : flightManager.getDeparturesFrom(leg.getArrivalPlace(),
+                    landed + minConnectionSeconds, landed + maxConnectionSeconds)) {
+                extend(q, next);
+            }
+            q.visited.remove(arrivalKey);
+        }
+        q.path.removeLast();
+    }
+
+    /**
+     * Bacaktaki boş koltuk sayısı. Arama envanter oluşturmaz: henüz envanteri olmayan uçuşta
+     * hiç rezervasyon yoktur, yani uçağın tüm koltukları boştur.
+     */
+    private int availableSeats(Flight leg) {
+        SeatInventory inventory = seatManager.findInventory(leg.getFlightNum());
+        if (inventory == null) {
+            Plane plane = leg.getFlightPlane();
+            return plane.getRows() * plane.getColumns();
+        }
+        return inventory.getAvailableSeatCount();
+    }
+
+    /**
+     * Tek bir aramanın geçici durumu (DFS yolu, ziyaret edilen şehirler, sonuçlar).
+     */
+    private static final class Query {
+        final String destinationKey;
+        final int maxLegs;
+        final int passengers;
+        final Map<String, Integer> legsToDestination;
+        final Deque<Flight> path = new ArrayDeque<>();
+        final Set<String> visited = new HashSet<>();
+        final List<Itinerary> results = new ArrayList<>();
+
+        Query(String destinationKey, int maxLegs, int passengers, Map<String, Integer> legsToDestination) {
+            this.destinationKey = destinationKey;
+            this.maxLegs = maxLegs;
+            this.passengers = passengers;
+            this.legsToDestination = legsToDestination;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package airlinesystem.service;
+
+import airlinesystem.model.Flight;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FlightManager'ın belirli bir sürümdeki değişmez görüntüsü.
+ * Yayınlandıktan sonra hiç değişmez; thread'ler arasında kilitsiz paylaşılabilir.
+ */
+public final class FlightCatalog {
+
+    static final FlightCatalog EMPTY = new FlightCatalog(0, List.of());
+
+    private final long version;
+    private final List<Flight> flights;
+    private final Map<String, Flight> byFlightNum;
+
+    FlightCatalog(long version, Collection<Flight> flights) {
+        this.version = version;
+        this.flights = List.copyOf(flights);
+
+        Map<String, Flight> index = new HashMap<>(this.flights.size() * 2);
+        for (Flight f : this.flights) {
+            index.put(f.getFlightNum(), f);
+        }
+        this.byFlightNum = Collections.unmodifiableMap(index);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Uçuşlar (ekleme sırasıyla); değiştirilemez liste.
+     */
+    public List<Flight> getFlights() {
+        return flights;
+    }
+
+    public int size() {
+        return flights.size();
+    }
+
+    public Flight findByFlightNum(String flightNum) {
+        return flightNum == null ? null : byFlightNum.get(flightNum);
+    }
+}
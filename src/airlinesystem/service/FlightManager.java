@@ -1,121 +1,580 @@
-package airlinesystem.service;
-
-import airlinesystem.model.Flight;
-import airlinesystem.model.Staff;
-
-import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-
-public class FlightManager {
-
-    private final List<Flight> flights = new ArrayList<>();
-
-    public List<Flight> getFlights() {
-        return List.copyOf(flights);
-    }
-
-    private void requireAdmin(Staff staff) {
-        if (staff == null || !staff.isAdmin()) {
-            throw new SecurityException("Only admin staff can manage flights");
-        }
-    }
-
-    public void addFlight(Staff staff, Flight flight) {
-        requireAdmin(staff);
-        if (flight == null) {
-            throw new IllegalArgumentException("Flight cannot be null");
-        }
-
-        if (findByFlightNum(flight.getFlightNum()) != null) {
-            throw new IllegalArgumentException("Flight number already exists: " + flight.getFlightNum());
-        }
-
-        flights.add(flight);
-    }
-
-    public Flight findByFlightNum(String flightNum) {
-        if (flightNum == null) return null;
-        for (Flight f : flights) {
-            if (flightNum.equals(f.getFlightNum())) {
-                return f;
-            }
-        }
-        return null;
-    }
-
-    public boolean removeFlight(Staff staff, String flightNum) {
-        requireAdmin(staff);
-        if (flightNum == null) return false;
-
-        Iterator<Flight> it = flights.iterator();
-        while (it.hasNext()) {
-            Flight f = it.next();
-            if (flightNum.equals(f.getFlightNum())) {
-                it.remove();
-                return true;
-            }
-        }
-        return false;
-    }
-
-    public boolean updateFlight(Staff staff, Flight updated) {
-        requireAdmin(staff);
-        if (updated == null) return false;
-        String flightNum = updated.getFlightNum();
-        if (flightNum == null) return false;
-
-        for (int i = 0; i < flights.size(); i++) {
-            if (flightNum.equals(flights.get(i).getFlightNum())) {
-                flights.set(i, updated);
-                return true;
-            }
-        }
-        return false;
-    }
-
-    public List<Flight> searchAvailableFlights(String departureCity,
-                                               String arrivalCity,
-                                               LocalDateTime now) {
-        if (departureCity == null || arrivalCity == null) {
-            throw new IllegalArgumentException("Departure and arrival cities cannot be null");
-        }
-        if (now == null) {
-            now = LocalDateTime.now();
-        }
-
-        List<Flight> result = new ArrayList<>();
-
-        for (Flight f : flights) {
-            boolean matchRoute =
-                    f.getDeparturePlace().equalsIgnoreCase(departureCity) &&
-                    f.getArrivalPlace().equalsIgnoreCase(arrivalCity);
-
-            LocalDateTime departureDateTime = f.getDepartureDateTime();
-            boolean notDepartedYet = !departureDateTime.isBefore(now);
-
-            if (matchRoute && notDepartedYet) {
-                result.add(f);
-            }
-        }
-
-        return result;
-    }
-
-    public List<Flight> filterFutureFlights(LocalDateTime now) {
-        if (now == null) {
-            now = LocalDateTime.now();
-        }
-        List<Flight> result = new ArrayList<>();
-
-        for (Flight f : flights) {
-            LocalDateTime departureDateTime = f.getDepartureDateTime();
-            if (!departureDateTime.isBefore(now)) {
-                result.add(f);
-            }
-        }
-
-        return result;
-    }
-}
+package airlinesystem.service;
+
+import airlinesystem.model.Flight;
+import airlinesystem.model.Route;
+import airlinesystem.model.Staff;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Uçuş kataloğu. Yazma işlemleri (add/update/remove) ve indeks sorguları bu nesnenin
+ * kilidi altında çalışır; tüm listeyi isteyen okuyucular ise kilitsiz, değişmez bir
+ * FlightCatalog snapshot'ı alır. Her yazma sürümü artırır, snapshot ilk okumada
+ * bir kez yeniden kurulur ve o sürüm boyunca herkes aynı nesneyi paylaşır.
+ */
+public class FlightManager {
+
+    private static final long SECONDS_PER_DAY = 24 * 60 * 60;
+
+    // flightNum → Flight; LinkedHashMap ekleme sırasını korur (tablolar eskisi gibi listelenir)
+    // ve arama/ekleme/silme O(1) olur. Bu ve aşağıdaki indeksler sadece this kilidi altında değişir.
+    private final Map<String, Flight> flights = new LinkedHashMap<>();
+
+    // Rota indeksi: routeKey ("ist>esb") → kalkış zamanına göre sıralı uçuşlar.
+    // Arama = bir hash bakışı + gelecekteki kalkışlar üzerinde aralık taraması.
+    private final Map<String, NavigableMap<DepartureKey, Flight>> routeIndex = new HashMap<>();
+
+    // flightNum → indekste kullanılan anahtar. Flight nesnesi sonradan set* ile değişse bile
+    // eski kaydı doğru yerden silebilmek için tutulur.
+    private final Map<String, DepartureKey> indexedKeys = new HashMap<>();
+
+    // Kalkış zamanı indeksi iki parçadır: "sıcak" kısım henüz kalkmamış uçuşları,
+    // "soğuk" kısım departedBefore'dan önce kalkmış olanları tutar. Zaman ilerledikçe
+    // kalkan uçuşlar sıcaktan soğuğa taşınır; ikisi ayrık ve sıralı olduğundan
+    // her aralık sorgusu iki subMap'in art arda okunmasıdır (O(log n + k)).
+    private final NavigableMap<DepartureKey, Flight> upcoming = new TreeMap<>();
+    private final NavigableMap<DepartureKey, Flight> departed = new TreeMap<>();
+    private long departedBefore = Long.MIN_VALUE; // Flight.toEpochSecond ölçeğinde
+
+    // Aktarmalı arama için: havalimanı (cityKey) → oradan kalkan uçuşlar (zamana göre sıralı)
+    // ve rota grafı (origin → destination → o hatta kaç uçuş var), ters yönüyle birlikte.
+    private final Map<String, NavigableMap<DepartureKey, Flight>> departuresByOrigin = new HashMap<>();
+    // Sadece varış şehriyle aramak için: havalimanı → oraya giden uçuşlar (kalkış zamanına göre sıralı)
+    private final Map<String, NavigableMap<DepartureKey, Flight>> arrivalsByDestination = new HashMap<>();
+    private final Map<String, Map<String, Integer>> routeGraph = new HashMap<>();
+    private final Map<String, Map<String, Integer>> reverseRouteGraph = new HashMap<>();
+
+    // Şehir adı otomatik tamamlama indeksi (kilitsiz okunur)
+    private final CityIndex cityIndex = new CityIndex();
+
+    // Rota araması sonuçları; indekse giren/çıkan her uçuş kendi rota + gün kaydını siler
+    private final FlightSearchCache searchCache = new FlightSearchCache();
+
+    // Her yazmada artar (kilit altında); snapshot hangi sürüme ait olduğunu kendisi taşır
+    private volatile long version;
+    private volatile FlightCatalog snapshot = FlightCatalog.EMPTY;
+
+    /**
+     * Katalogun şu anki tutarlı, değişmez görüntüsü. Yazma olmadıkça kopyalama yapılmaz.
+     */
+    public FlightCatalog getCatalog() {
+        FlightCatalog current = snapshot;
+        if (current.getVersion() == version) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot.getVersion() != version) {
+                snapshot = new FlightCatalog(version, flights.values());
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * Uçuşların değişmez listesi (ekleme sırasıyla). Aynı sürüm için her çağrı aynı listeyi döner.
+     */
+    public List<Flight> getFlights() {
+        return getCatalog().getFlights();
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    private void requireAdmin(Staff staff) {
+        if (staff == null || !staff.isAdmin()) {
+            throw new SecurityException("Only admin staff can manage flights");
+        }
+    }
+
+    public synchronized void addFlight(Staff staff, Flight flight) {
+        requireAdmin(staff);
+        if (flight == null) {
+            throw new IllegalArgumentException("Flight cannot be null");
+        }
+
+        if (flights.putIfAbsent(flight.getFlightNum(), flight) != null) {
+            throw new IllegalArgumentException("Flight number already exists: " + flight.getFlightNum());
+        }
+        indexFlight(flight);
+        version++;
+    }
+
+    public synchronized Flight findByFlightNum(String flightNum) {
+        if (flightNum == null) return null;
+        return flights.get(flightNum);
+    }
+
+    public synchronized boolean removeFlight(Staff staff, String flightNum) {
+        requireAdmin(staff);
+        if (flightNum == null) return false;
+
+        if (flights.remove(flightNum) == null) {
+            return false;
+        }
+        unindexFlight(flightNum);
+        version++;
+        return true;
+    }
+
+    public synchronized boolean updateFlight(Staff staff, Flight updated) {
+        requireAdmin(staff);
+        if (updated == null) return false;
+        String flightNum = updated.getFlightNum();
+        if (flightNum == null) return false;
+
+        // replace mevcut girişin yerini (sırasını) korur
+        if (flights.replace(flightNum, updated) == null) {
+            return false;
+        }
+        unindexFlight(flightNum);
+        indexFlight(updated);
+        version++;
+        return true;
+    }
+
+    private void indexFlight(Flight flight) {
+        Route route = flight.getFlightRoute();
+        DepartureKey key = new DepartureKey(route.getRouteKey(),
+                Route.cityKey(route.getDeparturePlace()), Route.cityKey(route.getArrivalPlace()),
+                flight.getDepartureEpochSecond(), flight.getFlightNum());
+        routeIndex.computeIfAbsent(key.routeKey, k -> new TreeMap<>()).put(key, flight);
+        indexedKeys.put(flight.getFlightNum(), key);
+        if (key.departure < departedBefore) {
+            departed.put(key, flight);
+        } else {
+            upcoming.put(key, flight);
+        }
+
+        departuresByOrigin.computeIfAbsent(key.originKey, k -> new TreeMap<>()).put(key, flight);
+        arrivalsByDestination.computeIfAbsent(key.destinationKey, k -> new TreeMap<>()).put(key, flight);
+        routeGraph.computeIfAbsent(key.originKey, k -> new HashMap<>()).merge(key.destinationKey, 1, Integer::sum);
+        reverseRouteGraph.computeIfAbsent(key.destinationKey, k -> new HashMap<>()).merge(key.originKey, 1, Integer::sum);
+        searchCache.invalidate(key.routeKey, key.departureDate());
+        cityIndex.add(route.getDeparturePlace());
+        cityIndex.add(route.getArrivalPlace());
+    }
+
+    private void unindexFlight(String flightNum) {
+        DepartureKey key = indexedKeys.remove(flightNum);
+        if (key == null) {
+            return;
+        }
+        NavigableMap<DepartureKey, Flight> byTime = routeIndex.get(key.routeKey);
+        if (byTime != null) {
+            byTime.remove(key);
+            if (byTime.isEmpty()) {
+                routeIndex.remove(key.routeKey);
+            }
+        }
+        if (upcoming.remove(key) == null) {
+            departed.remove(key);
+        }
+
+        NavigableMap<DepartureKey, Flight> fromOrigin = departuresByOrigin.get(key.originKey);
+        if (fromOrigin != null) {
+            fromOrigin.remove(key);
+            if (fromOrigin.isEmpty()) {
+                departuresByOrigin.remove(key.originKey);
+            }
+        }
+        NavigableMap<DepartureKey, Flight> toDestination = arrivalsByDestination.get(key.destinationKey);
+        if (toDestination != null) {
+            toDestination.remove(key);
+            if (toDestination.isEmpty()) {
+                arrivalsByDestination.remove(key.destinationKey);
+            }
+        }
+        decrementEdge(routeGraph, key.originKey, key.destinationKey);
+        decrementEdge(reverseRouteGraph, key.destinationKey, key.originKey);
+        searchCache.invalidate(key.routeKey, key.departureDate());
+        cityIndex.remove(key.originKey);
+        cityIndex.remove(key.destinationKey);
+    }
+
+    private static void decrementEdge(Map<String, Map<String, Integer>> graph, String from, String to) {
+        Map<String, Integer> edges = graph.get(from);
+        if (edges == null) {
+            return;
+        }
+        // 1 → null döndürünce kenar silinir
+        edges.computeIfPresent(to, (k, count) -> count > 1 ? count - 1 : null);
+        if (edges.isEmpty()) {
+            graph.remove(from);
+        }
+    }
+
+    // -------------------- ROUTE GRAPH (aktarmalı arama) --------------------
+
+    /**
+     * city'den [from, to) aralığında kalkan uçuşlar, kalkış zamanına göre sıralı.
+     */
+    public List<Flight> getDeparturesFrom(String city, LocalDateTime from, LocalDateTime to) {
+        if (city == null || from == null || to == null) {
+            throw new IllegalArgumentException("City and time range cannot be null");
+        }
+        return getDeparturesFrom(city, Flight.toEpochSecond(from), Flight.toEpochSecond(to));
+    }
+
+    /**
+     * getDeparturesFrom'un Flight.toEpochSecond ölçeğindeki sınırlarla çalışan hali.
+     */
+    public synchronized List<Flight> getDeparturesFrom(String city, long fromEpochSecond, long toEpochSecond) {
+        if (city == null) {
+            throw new IllegalArgumentException("City cannot be null");
+        }
+        NavigableMap<DepartureKey, Flight> byTime = departuresByOrigin.get(Route.cityKey(city));
+        if (byTime == null || fromEpochSecond >= toEpochSecond) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(byTime.subMap(DepartureKey.lowerBound(fromEpochSecond), true,
+                DepartureKey.lowerBound(toEpochSecond), false).values());
+    }
+
+    /**
+     * city'den direkt uçuş olan şehirlerin anahtarları (Route.cityKey).
+     */
+    public synchronized Set<String> getDestinationsFrom(String city) {
+        Map<String, Integer> edges = routeGraph.get(Route.cityKey(city));
+        return edges == null ? Set.of() : Set.copyOf(edges.keySet());
+    }
+
+    /**
+     * city'ye direkt uçuş olan şehirlerin anahtarları (Route.cityKey).
+     */
+    public synchronized Set<String> getOriginsTo(String city) {
+        Map<String, Integer> edges = reverseRouteGraph.get(Route.cityKey(city));
+        return edges == null ? Set.of() : Set.copyOf(edges.keySet());
+    }
+
+    /**
+     * Rotadaki, henüz kalkmamış uçuşlar (kalkış zamanına göre sıralı).
+     * Şehir karşılaştırması büyük/küçük harf duyarsızdır.
+     */
+    public List<Flight> searchAvailableFlights(String departureCity,
+                                               String arrivalCity,
+                                               LocalDateTime now) {
+        return searchAvailableFlights(departureCity, arrivalCity, now, null);
+    }
+
+    /**
+     * Rotadaki, verilen gün (date null ise herhangi bir gün) kalkan ve henüz kalkmamış uçuşlar.
+     * Sonuç önce searchCache'te aranır; bulunursa FlightManager kilidi hiç alınmaz.
+     */
+    public List<Flight> searchAvailableFlights(String departureCity,
+                                               String arrivalCity,
+                                               LocalDateTime now,
+                                               LocalDate date) {
+        if (departureCity == null || arrivalCity == null) {
+            throw new IllegalArgumentException("Departure and arrival cities cannot be null");
+        }
+        if (now == null) {
+            now = LocalDateTime.now();
+        }
+
+        String routeKey = Route.routeKey(departureCity, arrivalCity);
+        List<Flight> onRoute = searchCache.get(routeKey, date);
+        if (onRoute == null) {
+            // Hesaplama ve put kilit altında: araya giren bir yazmanın invalidate'i
+            // eski sonucun önbelleğe yazılmasından önce olamaz
+            synchronized (this) {
+                onRoute = flightsOnRoute(routeKey, date);
+                searchCache.put(routeKey, date, onRoute);
+            }
+        }
+        int first = firstDepartingAtOrAfter(onRoute, Flight.toEpochSecond(now));
+        return new ArrayList<>(onRoute.subList(first, onRoute.size()));
+    }
+
+    /**
+     * Katalogdaki şehirlerin önek indeksi (kalkış/varış alanlarında öneri için).
+     */
+    public CityIndex getCityIndex() {
+        return cityIndex;
+    }
+
+    /**
+     * Arama sonuçları önbelleği (isabet/ıskalama istatistikleri için).
+     */
+    public FlightSearchCache getSearchCache() {
+        return searchCache;
+    }
+
+    private List<Flight> flightsOnRoute(String routeKey, LocalDate date) {
+        NavigableMap<DepartureKey, Flight> byTime = routeIndex.get(routeKey);
+        if (byTime == null) {
+            return List.of();
+        }
+        if (date == null) {
+            return List.copyOf(byTime.values());
+        }
+        long dayStart = date.toEpochDay() * SECONDS_PER_DAY;
+        return List.copyOf(byTime.subMap(DepartureKey.lowerBound(dayStart), true,
+                DepartureKey.lowerBound(dayStart + SECONDS_PER_DAY), false).values());
+    }
+
+    // Kalkışa göre sıralı listede kalkışı now'dan önce olmayan ilk uçuşun indeksi
+    private static int firstDepartingAtOrAfter(List<Flight> sorted, long nowEpochSecond) {
+        int lo = 0;
+        int hi = sorted.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted.get(mid).isDepartedBy(nowEpochSecond)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Sayfalı arama: verilen filtrelere uyan, henüz kalkmamış uçuşlardan kalkış sırasına göre
+     * en fazla pageSize tanesi. İlk sayfa için after null, sonrakiler için önceki sayfanın
+     * getNextCursor()'ı verilir. Şehirler ve tarih isteğe bağlıdır (null = filtre yok).
+     * İki şehir birlikte verilirse sayfalar searchCache'teki rota kaydından okunur.
+     */
+    public synchronized FlightPage searchFlights(String departureCity,
+                                                 String arrivalCity,
+                                                 LocalDate date,
+                                                 LocalDateTime now,
+                                                 FlightPage.Cursor after,
+                                                 int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        if (now == null) {
+            now = LocalDateTime.now();
+        }
+        long from = Flight.toEpochSecond(now);
+        long to = Long.MAX_VALUE;
+        if (date != null) {
+            long dayStart = date.toEpochDay() * SECONDS_PER_DAY;
+            from = Math.max(from, dayStart);
+            to = dayStart + SECONDS_PER_DAY;
+        }
+        archiveDeparted(from);
+
+        if (departureCity != null && arrivalCity != null) {
+            return routePage(Route.routeKey(departureCity, arrivalCity), date, from, to, after, pageSize);
+        }
+
+        DepartureKey start = DepartureKey.lowerBound(from);
+        boolean startInclusive = true;
+        if (after != null) {
+            DepartureKey cursorKey = new DepartureKey(null, null, null, after.departure, after.flightNum);
+            if (cursorKey.compareTo(start) >= 0) {
+                start = cursorKey;
+                startInclusive = false;
+            }
+        }
+        DepartureKey end = DepartureKey.lowerBound(to);
+
+        // En dar indeks seçilir; şehir verilmediyse zaman indeksinin tamamı
+        List<NavigableMap<DepartureKey, Flight>> sources = new ArrayList<>(2);
+        if (departureCity != null) {
+            NavigableMap<DepartureKey, Flight> byTime = departuresByOrigin.get(Route.cityKey(departureCity));
+            if (byTime != null) sources.add(byTime);
+        } else if (arrivalCity != null) {
+            NavigableMap<DepartureKey, Flight> byTime = arrivalsByDestination.get(Route.cityKey(arrivalCity));
+            if (byTime != null) sources.add(byTime);
+        } else {
+            // ikisi ayrık ve sıralı: önce soğuk, sonra sıcak kısım
+            sources.add(departed);
+            sources.add(upcoming);
+        }
+
+        List<Flight> page = new ArrayList<>(Math.min(pageSize, 256));
+        DepartureKey last = null;
+        boolean more = false;
+        scan:
+        for (NavigableMap<DepartureKey, Flight> source : sources) {
+            if (start.compareTo(end) >= 0) {
+                break;
+            }
+            for (Map.Entry<DepartureKey, Flight> e : source.subMap(start, startInclusive, end, false).entrySet()) {
+                if (page.size() == pageSize) {
+                    more = true;
+                    break scan;
+                }
+                page.add(e.getValue());
+                last = e.getKey();
+            }
+        }
+
+        return new FlightPage(page, more ? new FlightPage.Cursor(last.departure, last.flightNum) : null);
+    }
+
+    /**
+     * Rota aramasının sayfası: searchAvailableFlights ile aynı (rota, gün) önbellek kaydı
+     * üzerinde ikili arama ile başlangıç bulunur. Kayıt indexFlight/unindexFlight'ta
+     * geçersiz kılındığı için ekleme, güncelleme ve silme sonraki sayfaya yansır.
+     */
+    private FlightPage routePage(String routeKey, LocalDate date, long from, long to,
+                                 FlightPage.Cursor after, int pageSize) {
+        List<Flight> onRoute = searchCache.get(routeKey, date);
+        if (onRoute == null) {
+            onRoute = flightsOnRoute(routeKey, date);
+            searchCache.put(routeKey, date, onRoute);
+        }
+
+        int i = after != null && after.departure >= from
+                ? firstAfter(onRoute, after.departure, after.flightNum)
+                : firstDepartingAtOrAfter(onRoute, from);
+        List<Flight> page = new ArrayList<>(Math.min(pageSize, 256));
+        for (; i < onRoute.size() && onRoute.get(i).getDepartureEpochSecond() < to; i++) {
+            if (page.size() == pageSize) {
+                Flight last = page.get(pageSize - 1);
+                return new FlightPage(page, new FlightPage.Cursor(last.getDepartureEpochSecond(), last.getFlightNum()));
+            }
+            page.add(onRoute.get(i));
+        }
+        return new FlightPage(page, null);
+    }
+
+    // (kalkış, uçuş no) sırasına göre sıralı listede verilen anahtardan sonraki ilk uçuşun indeksi
+    private static int firstAfter(List<Flight> sorted, long departure, String flightNum) {
+        int lo = 0;
+        int hi = sorted.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            Flight f = sorted.get(mid);
+            int c = Long.compare(f.getDepartureEpochSecond(), departure);
+            if (c < 0 || (c == 0 && f.getFlightNum().compareTo(flightNum) <= 0)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * now ve sonrasında kalkan uçuşlar (kalkış zamanına göre sıralı).
+     */
+    public synchronized List<Flight> filterFutureFlights(LocalDateTime now) {
+        if (now == null) {
+            now = LocalDateTime.now();
+        }
+        long nowSecond = Flight.toEpochSecond(now);
+        archiveDeparted(nowSecond);
+        return flightsBetween(nowSecond, Long.MAX_VALUE);
+    }
+
+    /**
+     * Verilen gün kalkan tüm uçuşlar (geçmiş dahil), kalkış zamanına göre sıralı.
+     */
+    public synchronized List<Flight> getFlightsOn(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        long dayStart = date.toEpochDay() * SECONDS_PER_DAY;
+        return flightsBetween(dayStart, dayStart + SECONDS_PER_DAY);
+    }
+
+    /**
+     * [from, to) aralığında kalkan uçuşlar, kalkış zamanına göre sıralı.
+     */
+    public synchronized List<Flight> getFlightsBetween(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Time range cannot be null");
+        }
+        return flightsBetween(Flight.toEpochSecond(from), Flight.toEpochSecond(to));
+    }
+
+    private List<Flight> flightsBetween(long from, long to) {
+        List<Flight> result = new ArrayList<>();
+        if (from >= to) {
+            return result;
+        }
+
+        // Soğuk kısım sadece aralık watermark'tan önce başlıyorsa okunur
+        if (from < departedBefore) {
+            long coldEnd = Math.min(to, departedBefore);
+            result.addAll(departed.subMap(DepartureKey.lowerBound(from), true,
+                    DepartureKey.lowerBound(coldEnd), false).values());
+        }
+        if (to > departedBefore) {
+            long hotStart = Math.max(from, departedBefore);
+            result.addAll(upcoming.subMap(DepartureKey.lowerBound(hotStart), true,
+                    DepartureKey.lowerBound(to), false).values());
+        }
+        return result;
+    }
+
+    /**
+     * Kalkmış uçuşları sıcak indeksten soğuğa taşır. Watermark gerçek saati geçmez;
+     * böylece ileri bir "now" ile yapılan sorgu (ör. testler) bugünün uçuşlarını soğuğa atmaz.
+     */
+    private void archiveDeparted(long now) {
+        long watermark = Math.min(now, Flight.currentEpochSecond());
+        if (watermark <= departedBefore) {
+            return;
+        }
+        NavigableMap<DepartureKey, Flight> justDeparted = upcoming.headMap(DepartureKey.lowerBound(watermark), false);
+        departed.putAll(justDeparted);
+        justDeparted.clear();
+        departedBefore = watermark;
+    }
+
+    /**
+     * Rota indeksindeki sıralama anahtarı: önce kalkış zamanı, eşitse uçuş numarası.
+     */
+    private static final class DepartureKey implements Comparable<DepartureKey> {
+
+        // rota/şehir anahtarları karşılaştırmaya katılmaz; silerken doğru kovayı bulmak için
+        private final String routeKey;
+        private final String originKey;
+        private final String destinationKey;
+        private final long departure; // Flight.toEpochSecond ölçeğinde
+        private final String flightNum;
+
+        DepartureKey(String routeKey, String originKey, String destinationKey,
+                     long departure, String flightNum) {
+            this.routeKey = routeKey;
+            this.originKey = originKey;
+            this.destinationKey = destinationKey;
+            this.departure = departure;
+            this.flightNum = flightNum;
+        }
+
+        /**
+         * Verilen andaki tüm uçuşlardan küçük-eşit anahtar (aralık sınırı olarak).
+         */
+        static DepartureKey lowerBound(long departure) {
+            return new DepartureKey(null, null, null, departure, "");
+        }
+
+        LocalDate departureDate() {
+            return LocalDate.ofEpochDay(Math.floorDiv(departure, SECONDS_PER_DAY));
+        }
+
+        @Override
+        public int compareTo(DepartureKey o) {
+            int c = Long.compare(departure, o.departure);
+            return c != 0 ? c : flightNum.compareTo(o.flightNum);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof DepartureKey)) return false;
+            DepartureKey other = (DepartureKey) o;
+            return departure == other.departure && flightNum.equals(other.flightNum);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Long.hashCode(departure) + flightNum.hashCode();
+        }
+    }
+}
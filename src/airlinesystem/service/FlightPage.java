@@ -0,0 +1,56 @@
+package airlinesystem.service;
+
+import airlinesystem.model.Flight;
+
+import java.util.List;
+
+/**
+ * Kalkış sırasına göre bir sayfa uçuş ve bir sonraki sayfanın cursor'ı.
+ *
+ * Cursor sayfanın son uçuşunun (kalkış, uçuş no) anahtarıdır; sonraki sayfa bu anahtardan
+ * hemen sonra başlar. Offset yerine anahtar kullanıldığı için sayfalar arasında eklenen
+ * veya silinen uçuşlar satırları kaydırmaz, ileri sayfa maliyeti de O(log n + sayfa)'dır.
+ */
+public final class FlightPage {
+
+    private final List<Flight> flights;
+    private final Cursor nextCursor;
+
+    FlightPage(List<Flight> flights, Cursor nextCursor) {
+        this.flights = List.copyOf(flights);
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Flight> getFlights() {
+        return flights;
+    }
+
+    /**
+     * Sonraki sayfa için cursor; bu son sayfaysa null.
+     */
+    public Cursor getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Sayfa sınırı; FlightManager.searchFlights'a geri verilir, içeriği dışarıdan kullanılmaz.
+     */
+    public static final class Cursor {
+        final long departure; // Flight.toEpochSecond ölçeğinde
+        final String flightNum;
+
+        Cursor(long departure, String flightNum) {
+            this.departure = departure;
+            this.flightNum = flightNum;
+        }
+
+        @Override
+        public String toString() {
+            return departure + "/" + flightNum;
+        }
+    }
+}
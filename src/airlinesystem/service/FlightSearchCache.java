@@ -0,0 +1,145 @@
+package airlinesystem.service;
+
+import airlinesystem.model.Flight;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Rota araması sonuçları için sınırlı LRU önbellek.
+ *
+ * Anahtar normalize edilmiş sorgudur: (routeKey, gün) veya tarihsiz aramalar için (routeKey, null).
+ * Değer o rotanın o gündeki tüm uçuşlarıdır (now'dan bağımsız, kalkışa göre sıralı);
+ * "henüz kalkmamış" filtresi okurken uygulanır, böylece saat ilerledikçe kayıt eskimez.
+ * FlightManager bir uçuşu indekse ekleyip çıkarırken sadece o rota + gün kaydını ve
+ * rotanın tarihsiz kaydını siler.
+ */
+public class FlightSearchCache {
+
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final int capacity;
+    private final LinkedHashMap<Key, List<Flight>> entries;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    public FlightSearchCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public FlightSearchCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Cache capacity must be positive");
+        }
+        this.capacity = capacity;
+        // accessOrder = true → en eski erişilen kayıt başta (LRU)
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, List<Flight>> eldest) {
+                if (size() > FlightSearchCache.this.capacity) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Önbellekteki sonuç ya da null (miss). date null ise tarihsiz arama.
+     */
+    synchronized List<Flight> get(String routeKey, LocalDate date) {
+        List<Flight> cached = entries.get(new Key(routeKey, date));
+        if (cached == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return cached;
+    }
+
+    synchronized void put(String routeKey, LocalDate date, List<Flight> flights) {
+        entries.put(new Key(routeKey, date), List.copyOf(flights));
+    }
+
+    /**
+     * Verilen rota + gün'e dokunan bir değişiklik: o günün ve rotanın tarihsiz kaydı silinir.
+     */
+    synchronized void invalidate(String routeKey, LocalDate date) {
+        if (entries.remove(new Key(routeKey, date)) != null) {
+            invalidations++;
+        }
+        if (entries.remove(new Key(routeKey, null)) != null) {
+            invalidations++;
+        }
+    }
+
+    public synchronized void clear() {
+        invalidations += entries.size();
+        entries.clear();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    public synchronized long getInvalidations() {
+        return invalidations;
+    }
+
+    public synchronized double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("FlightSearchCache{size=%d/%d, hits=%d, misses=%d, hitRate=%.1f%%, evictions=%d, invalidations=%d}",
+                entries.size(), capacity, hits, misses, getHitRate() * 100, evictions, invalidations);
+    }
+
+    private static final class Key {
+        private final String routeKey;
+        private final LocalDate date;
+
+        Key(String routeKey, LocalDate date) {
+            this.routeKey = routeKey;
+            this.date = date;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return routeKey.equals(other.routeKey) && Objects.equals(date, other.date);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * routeKey.hashCode() + Objects.hashCode(date);
+        }
+    }
+}
@@ -1,203 +1,843 @@
-package airlinesystem.service;
-
-import airlinesystem.model.*;
-import airlinesystem.repository.ReservationFileRepository;
-
-import java.io.IOException;
-import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
-
-public class ReservationManager {
-
-    private static final double DEFAULT_BAGGAGE_ALLOWANCE_KG = 15.0;
-
-    private final SeatManager seatManager;
-    private final PriceCalculator priceCalculator;
-    private final ReservationFileRepository reservationRepo;
-
-    private final List<Reservation> reservations = new ArrayList<>();
-    private final List<Ticket> tickets = new ArrayList<>();
-
-    public ReservationManager(SeatManager seatManager,
-                              PriceCalculator priceCalculator,
-                              ReservationFileRepository reservationRepo) {
-        if (seatManager == null) {
-            throw new IllegalArgumentException("SeatManager cannot be null");
-        }
-        if (priceCalculator == null) {
-            throw new IllegalArgumentException("PriceCalculator cannot be null");
-        }
-        if (reservationRepo == null) {
-            throw new IllegalArgumentException("ReservationFileRepository cannot be null");
-        }
-        this.seatManager = seatManager;
-        this.priceCalculator = priceCalculator;
-        this.reservationRepo = reservationRepo;
-    }
-
-    public List<Reservation> getReservations() {
-        return List.copyOf(reservations);
-    }
-
-    public List<Ticket> getTickets() {
-        return List.copyOf(tickets);
-    }
-
-    public Reservation findReservationWithCode(String code) {
-        if (code == null) {
-            return null;
-        }
-        for (Reservation r : reservations) {
-            if (code.equals(r.getReservationCode())) {
-                return r;
-            }
-        }
-        return null;
-    }
-
-    private String createReservationCode(Flight flight, Passenger passenger, String seatNum) {
-        return flight.getFlightNum() + "-" + passenger.getPassengerID() + "-" + seatNum;
-    }
-
-    private String createTicketId(Reservation reservation) {
-        return "T-" + reservation.getReservationCode();
-    }
-
-    private void saveToFile() {
-        try {
-            reservationRepo.saveAll(reservations, tickets);
-        } catch (IOException e) {
-            System.err.println("reservations.txt kaydedilemedi: " + e.getMessage());
-        }
-    }
-
-    public synchronized Ticket makeReservation(Flight flight,
-                                               Passenger passenger,
-                                               String seatNum,
-                                               Baggage baggage) {
-        if (flight == null) {
-            throw new IllegalArgumentException("Flight cannot be null");
-        }
-        if (passenger == null) {
-            throw new IllegalArgumentException("Passenger cannot be null");
-        }
-        if (seatNum == null || seatNum.isBlank()) {
-            throw new IllegalArgumentException("Seat number cannot be null or blank");
-        }
-
-        // Koltuk çöz ve uygun mu kontrol et
-        Seat seat = seatManager.resolveSeatNumber(flight.getFlightPlane(), seatNum);
-        if (seat == null) {
-            throw new IllegalArgumentException("Seat not found: " + seatNum);
-        }
-        if (seat.isReserved()) {
-            throw new IllegalStateException("Seat already reserved: " + seatNum);
-        }
-
-        // Koltuğu rezerve et
-        seat.makeReservation();
-
-        // Reservation oluştur
-        String reservationCode = createReservationCode(flight, passenger, seatNum);
-        LocalDateTime now = LocalDateTime.now();
-        Reservation reservation = new Reservation(reservationCode, flight, passenger, seat, now);
-        reservations.add(reservation);
-
-        // Baggage allowance (sistem genelinde sabit)
-        double baggageAllowance = DEFAULT_BAGGAGE_ALLOWANCE_KG;
-
-        // Fiyatı hesapla
-        double price = priceCalculator.calculatePrice(
-                flight,
-                seat,
-                baggageAllowance,
-                baggage
-        );
-
-        // Ticket oluştur
-        String ticketId = createTicketId(reservation);
-        Ticket ticket = new Ticket(ticketId, reservation, price, baggageAllowance, baggage);
-        tickets.add(ticket);
-
-        // Dosyaya yaz
-        saveToFile();
-
-        return ticket;
-    }
-
-    public synchronized void cancelReservation(String reservationCode) {
-        if (reservationCode == null || reservationCode.isBlank()) {
-            throw new IllegalArgumentException("Reservation code cannot be null or blank");
-        }
-
-        Reservation reservation = findReservationWithCode(reservationCode);
-        if (reservation == null) {
-            throw new IllegalArgumentException("Reservation not found: " + reservationCode);
-        }
-
-        if (!reservation.isActive()) {
-            return; // zaten iptal edilmiş
-        }
-
-        // Reservation kendi iptal mantığını uygulasın (seat.cancelReservation dahil)
-        reservation.cancel();
-
-        // İlgili bileti listeden çıkar
-        tickets.removeIf(t -> t.getReservation() == reservation);
-
-        // Rezervasyonu da listeden tamamen çıkar
-        reservations.remove(reservation);
-
-        // Dosyaya yaz
-        saveToFile();
-    }
-
-    public void loadData(List<Reservation> loadedReservations,
-                         List<Ticket> loadedTickets) {
-
-        this.reservations.clear();
-        this.tickets.clear();
-
-        // Sadece aktif rezervasyonları al
-        for (Reservation r : loadedReservations) {
-            if (r.isActive()) {
-                this.reservations.add(r);
-            }
-        }
-
-        // Sadece rezervasyonu hâlâ aktif olan biletleri al
-        for (Ticket t : loadedTickets) {
-            if (t.getReservation() != null && t.getReservation().isActive()) {
-                this.tickets.add(t);
-            }
-        }
-    }
-    public Ticket findTicketByReservationCode(String resCode) {
-        if (resCode == null) {
-            return null;
-        }
-
-        // Önce Reservation'ı senin var olan methodla bul
-        Reservation res = findReservationWithCode(resCode);
-        if (res == null) {
-            return null;
-        }
-
-        // tickets listeni burada gez: tickets alanı zaten bu sınıfta var 
-        for (Ticket t : tickets) {
-            if (t == null) continue;
-
-            Reservation tr = t.getReservation();
-            if (tr == res) {
-                return t;
-            }
-            if (tr != null && resCode.equals(tr.getReservationCode())) {
-                return t;
-            }
-        }
-
-        return null;
-    }
-
-}
+package airlinesystem.service;
+
+import airlinesystem.concurrent.HashedTimingWheel;
+import airlinesystem.model.*;
+import airlinesystem.repository.ReservationFileRepository;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ReservationManager {
+
+    private static final double DEFAULT_BAGGAGE_ALLOWANCE_KG = 15.0;
+
+    // Uçuş numarasına göre kilit şeridi (lock striping); 2'nin kuvveti olmalı
+    private static final int LOCK_STRIPES = 64;
+
+    // Hold zamanlayıcısı: 100 ms hassasiyet, 512 bucket (bir tur ≈ 51 sn)
+    private static final long HOLD_TICK_MILLIS = 100;
+    private static final int HOLD_WHEEL_SIZE = 512;
+
+    // Journal en az bu kadar ve canlı rezervasyon sayısı kadar kayda ulaşınca snapshot yeniden yazılır;
+    // böylece tam yazma maliyeti rezervasyon başına sabite (amortize) iner
+    private static final int COMPACT_MIN_RECORDS = 1000;
+
+    private final SeatManager seatManager;
+    private final PriceCalculator priceCalculator;
+    private final ReservationFileRepository reservationRepo;
+
+    // Rezervasyon kodu → kayıt (O(1) bulma/silme), eklenme sırası korunur.
+    // Kilitsiz: farklı uçuşlara yapılan rezervasyonlar burada da birbirini beklemez
+    private final CodeIndex<Reservation> reservations = new CodeIndex<>();
+    private final CodeIndex<Ticket> tickets = new CodeIndex<>();
+
+    // passengerID → o yolcunun aktif rezervasyonları (rezervasyon sırasıyla);
+    // "My Reservations" tüm listeyi kopyalayıp süzmek yerine sadece bunu okur
+    private final Map<String, CodeIndex<Reservation>> reservationsByPassenger = new ConcurrentHashMap<>();
+
+    // flightNum → kabin sınıfı başına aktif rezervasyon sayısı (indeks = SeatClass.ordinal);
+    // doluluk raporu rezervasyonları taramadan bunları okur
+    private final Map<String, AtomicIntegerArray> bookingCounts = new ConcurrentHashMap<>();
+
+    // Aynı uçuşa gelen işlemler aynı şeritte sıraya girer (linearizable),
+    // farklı uçuşlar büyük olasılıkla farklı şeritlere düşer ve paralel ilerler.
+    private final Object[] flightLocks = new Object[LOCK_STRIPES];
+
+    // reservations.txt + journal; aynı anda iki thread yazmasın
+    private final Object fileLock = new Object();
+
+    // Son compaction'dan beri journal'a eklenen kayıt sayısı (fileLock altında yazılır, kilitsiz okunur)
+    private volatile long journalRecords;
+
+    // Compaction rezervasyon thread'lerinde değil bu daemon thread'de çalışır;
+    // compactionLock iki compaction'ın (arka plan + compact()/shutdown) üst üste binmesini önler
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "reservation-compactor");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicBoolean compactionScheduled = new AtomicBoolean();
+    private final Object compactionLock = new Object();
+
+    // reservationCode → journal kaydı henüz kalıcı olmamış işlemin future'ı (kalıcı olunca silinir)
+    private final Map<String, CompletableFuture<Void>> pendingDurability = new ConcurrentHashMap<>();
+
+    // Açılışta snapshot kayıtları arka planda nesneye çevrilir (bkz. loadData(List, Callable));
+    // kayıtları okuyan metotlar bunu bekler, koltuk durumu ve yeni rezervasyonlar beklemez
+    private volatile CompletableFuture<Void> loaded = CompletableFuture.completedFuture(null);
+
+    // Binlerce hold için tek timer thread'i; her hold'un zamanlayıcısı holdId ile tutulur
+    private final HashedTimingWheel holdTimer =
+            new HashedTimingWheel(HOLD_TICK_MILLIS, TimeUnit.MILLISECONDS, HOLD_WHEEL_SIZE, "seat-hold-timer");
+    private final Map<String, HashedTimingWheel.Timeout> holdTimeouts = new ConcurrentHashMap<>();
+    private final AtomicLong holdSequence = new AtomicLong();
+
+    public ReservationManager(SeatManager seatManager,
+                              PriceCalculator priceCalculator,
+                              ReservationFileRepository reservationRepo) {
+        if (seatManager == null) {
+            throw new IllegalArgumentException("SeatManager cannot be null");
+        }
+        if (priceCalculator == null) {
+            throw new IllegalArgumentException("PriceCalculator cannot be null");
+        }
+        if (reservationRepo == null) {
+            throw new IllegalArgumentException("ReservationFileRepository cannot be null");
+        }
+        this.seatManager = seatManager;
+        this.priceCalculator = priceCalculator;
+        this.reservationRepo = reservationRepo;
+
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            flightLocks[i] = new Object();
+        }
+    }
+
+    public List<Reservation> getReservations() {
+        awaitLoaded();
+        return reservations.values();
+    }
+
+    public List<Ticket> getTickets() {
+        awaitLoaded();
+        return tickets.values();
+    }
+
+    public Reservation findReservationWithCode(String code) {
+        awaitLoaded();
+        return reservations.get(code);
+    }
+
+    /**
+     * Açılıştaki snapshot kayıtları belleğe alınınca tamamlanır; okuma hatasında istisnai.
+     */
+    public CompletableFuture<Void> whenLoaded() {
+        return loaded;
+    }
+
+    private void awaitLoaded() {
+        try {
+            loaded.join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Reservations could not be loaded: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Uçuştaki aktif rezervasyon sayısı (tüm sınıflar).
+     */
+    public int getActiveBookingCount(Flight flight) {
+        awaitLoaded();
+        AtomicIntegerArray counts = flight == null ? null : bookingCounts.get(flight.getFlightNum());
+        if (counts == null) {
+            return 0;
+        }
+        int total = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Uçuştaki, verilen kabin sınıfındaki aktif rezervasyon sayısı.
+     */
+    public int getActiveBookingCount(Flight flight, SeatClass seatClass) {
+        if (seatClass == null) {
+            throw new IllegalArgumentException("Seat class cannot be null");
+        }
+        awaitLoaded();
+        AtomicIntegerArray counts = flight == null ? null : bookingCounts.get(flight.getFlightNum());
+        return counts == null ? 0 : counts.get(seatClass.ordinal());
+    }
+
+    /**
+     * Yolcunun aktif rezervasyonları, rezervasyon sırasıyla (maliyet: yolcunun kendi rezervasyon sayısı).
+     */
+    public List<Reservation> getReservationsOf(String passengerID) {
+        if (passengerID == null) {
+            return List.of();
+        }
+        awaitLoaded();
+        CodeIndex<Reservation> own = reservationsByPassenger.get(passengerID);
+        return own == null ? List.of() : own.values();
+    }
+
+    private Object lockFor(Flight flight) {
+        int h = flight.getFlightNum().hashCode();
+        h ^= (h >>> 16);
+        return flightLocks[h & (LOCK_STRIPES - 1)];
+    }
+
+    private String createReservationCode(Flight flight, Passenger passenger, String seatNum) {
+        return flight.getFlightNum() + "-" + passenger.getPassengerID() + "-" + seatNum;
+    }
+
+    private String createTicketId(Reservation reservation) {
+        return "T-" + reservation.getReservationCode();
+    }
+
+    /**
+     * Yeni biletleri journal kuyruğuna ekler. Uçuş kilidi altında çağrılır: aynı rezervasyonun
+     * kaydı ile iptali journal'a bellekteki sırayla düşer. Diske yazmayı beklemez;
+     * kalıcılık whenDurable ile izlenir.
+     */
+    private void journalBookings(List<Ticket> issued) {
+        synchronized (fileLock) {
+            CompletableFuture<Void> durable = reservationRepo.appendBookings(issued);
+            journalRecords += issued.size();
+            for (Ticket t : issued) {
+                trackDurability(t.getReservation().getReservationCode(), durable);
+            }
+        }
+    }
+
+    private void journalCancel(String reservationCode) {
+        synchronized (fileLock) {
+            trackDurability(reservationCode, reservationRepo.appendCancel(reservationCode));
+            journalRecords++;
+        }
+    }
+
+    private void trackDurability(String reservationCode, CompletableFuture<Void> durable) {
+        pendingDurability.put(reservationCode, durable);
+        durable.whenComplete((ignored, error) -> {
+            if (error != null) {
+                System.err.println("reservations journal yazılamadı: " + error.getMessage());
+            } else {
+                pendingDurability.remove(reservationCode, durable);
+            }
+        });
+    }
+
+    /**
+     * Koda ait son rezervasyon/iptal kaydı journal'da kalıcı olunca tamamlanan future
+     * (repository'nin DurabilityMode'una göre). Bekleyen kayıt yoksa tamamlanmış döner;
+     * yazma hatasında istisnai tamamlanır.
+     */
+    public CompletableFuture<Void> whenDurable(String reservationCode) {
+        CompletableFuture<Void> durable = reservationCode == null ? null : pendingDurability.get(reservationCode);
+        return durable == null ? CompletableFuture.completedFuture(null) : durable;
+    }
+
+    /**
+     * Journal yeterince büyüdüyse arka planda compaction başlatır; çağıran beklemez.
+     * Uçuş kilidi dışında çağrılmalı.
+     */
+    private void compactIfNeeded() {
+        if (journalRecords >= Math.max(COMPACT_MIN_RECORDS, reservations.size())) {
+            compactInBackground();
+        }
+    }
+
+    /**
+     * Compaction'ı arka plan thread'ine sıraya koyar (zaten sıradaysa bir şey yapmaz); beklemez.
+     */
+    public void compactInBackground() {
+        if (compactionScheduled.compareAndSet(false, true)) {
+            try {
+                compactor.execute(() -> {
+                    compactionScheduled.set(false);
+                    compactNow();
+                });
+            } catch (RejectedExecutionException e) {
+                compactionScheduled.set(false); // kapanıyor; shutdown() kendisi compaction yapar
+            }
+        }
+    }
+
+    /**
+     * Bellekteki durumu yeni snapshot olarak yazar, journal'ı sıfırlar ve iptal edilmiş
+     * kayıtların tombstone'larını bellekten temizler. Çağıran thread'de, eşzamanlı olarak çalışır.
+     */
+    public void compact() {
+        compactNow();
+    }
+
+    /**
+     * Rezervasyonları bloke eden tek adım fileLock altındaki journal rotasyonudur (O(1), sadece
+     * kuyruğa koyar). Snapshot kilitsiz indekslerden rotasyondan sonra okunur: eski journal'daki
+     * her değişikliği içerir, sonradan gelenleri içerse de açılışta yeni journal tekrar oynatılır.
+     */
+    private void compactNow() {
+        synchronized (compactionLock) {
+            try {
+                awaitLoaded();
+            } catch (IllegalStateException e) {
+                // eksik durumla snapshot'ın üzerine yazılmaz; journal diskte kalır
+                System.err.println("reservations.txt kaydedilemedi: " + e.getMessage());
+                return;
+            }
+
+            CompletableFuture<Void> rotated;
+            synchronized (fileLock) {
+                rotated = reservationRepo.rotateJournal();
+                journalRecords = 0;
+            }
+
+            reservations.purge();
+            tickets.purge();
+            for (CodeIndex<Reservation> own : reservationsByPassenger.values()) {
+                own.purge();
+            }
+
+            try {
+                rotated.join();
+                reservationRepo.saveSnapshot(reservations.values(), tickets.values());
+            } catch (IOException | CompletionException e) {
+                // döndürülen journal diskte kalır; açılışta ve sonraki compaction'da yine kullanılır
+                System.err.println("reservations.txt kaydedilemedi: " + e.getMessage());
+            }
+        }
+    }
+
+    public Ticket makeReservation(Flight flight,
+                                  Passenger passenger,
+                                  String seatNum,
+                                  Baggage baggage) {
+        if (flight == null) {
+            throw new IllegalArgumentException("Flight cannot be null");
+        }
+        if (passenger == null) {
+            throw new IllegalArgumentException("Passenger cannot be null");
+        }
+        if (seatNum == null || seatNum.isBlank()) {
+            throw new IllegalArgumentException("Seat number cannot be null or blank");
+        }
+
+        // Koltuk çöz ve uygun mu kontrol et
+        Seat seat = seatManager.resolveSeatNumber(flight, seatNum);
+        if (seat == null) {
+            throw new IllegalArgumentException("Seat not found: " + seatNum);
+        }
+
+        Ticket ticket;
+        synchronized (lockFor(flight)) {
+            // Koltuğu atomik olarak al: aynı koltuğa gelen ikinci thread burada düşer
+            if (!seat.tryClaim()) {
+                throw new IllegalStateException("Seat already reserved: " + seatNum);
+            }
+            ticket = issueTicket(flight, passenger, seat, baggage);
+            journalBookings(List.of(ticket));
+        }
+
+        compactIfNeeded();
+
+        return ticket;
+    }
+
+    /**
+     * Koltuk numarası vermeden, verilen sınıftaki ilk uygun koltuğa rezervasyon yapar.
+     * Koltuk SeatManager'ın boş koltuk indeksinden alınır (rastgele deneme/tarama yok).
+     */
+    public Ticket makeReservation(Flight flight,
+                                  Passenger passenger,
+                                  SeatClass seatClass,
+                                  Baggage baggage) {
+        if (flight == null) {
+            throw new IllegalArgumentException("Flight cannot be null");
+        }
+        if (passenger == null) {
+            throw new IllegalArgumentException("Passenger cannot be null");
+        }
+        if (seatClass == null) {
+            throw new IllegalArgumentException("Seat class cannot be null");
+        }
+
+        Ticket ticket;
+        synchronized (lockFor(flight)) {
+            Seat seat = seatManager.allocateAny(flight, seatClass);
+            if (seat == null) {
+                throw new IllegalStateException("No available " + seatClass + " seat on flight " + flight.getFlightNum());
+            }
+            ticket = issueTicket(flight, passenger, seat, baggage);
+            journalBookings(List.of(ticket));
+        }
+
+        compactIfNeeded();
+
+        return ticket;
+    }
+
+    /**
+     * Zaten alınmış (claim edilmiş) koltuk için Reservation + Ticket oluşturup listelere ekler.
+     * Uçuş kilidi altında çağrılmalı; hata olursa koltuğu geri bırakır.
+     */
+    private Ticket issueTicket(Flight flight, Passenger passenger, Seat seat, Baggage baggage) {
+        Ticket ticket;
+        try {
+            ticket = createTicket(flight, passenger, seat, baggage);
+        } catch (RuntimeException e) {
+            // Rezervasyon tamamlanamadı, koltuğu geri bırak
+            seat.release();
+            throw e;
+        }
+
+        addBooking(ticket);
+        return ticket;
+    }
+
+    private void addBooking(Ticket ticket) {
+        String code = ticket.getReservation().getReservationCode();
+        reservations.add(code, ticket.getReservation());
+        tickets.add(code, ticket);
+        indexByPassenger(ticket.getReservation());
+        countBooking(ticket.getReservation(), 1);
+    }
+
+    private void countBooking(Reservation reservation, int delta) {
+        AtomicIntegerArray counts = bookingCounts.computeIfAbsent(reservation.getFlight().getFlightNum(),
+                k -> new AtomicIntegerArray(SeatClass.values().length));
+        counts.addAndGet(reservation.getSeat().getSeatClass().ordinal(), delta);
+    }
+
+    private void indexByPassenger(Reservation reservation) {
+        indexByPassenger(reservation, 0);
+    }
+
+    // rank < 0: açılışta arka planda okunan eski kayıt, yolcunun listesinin önüne
+    private void indexByPassenger(Reservation reservation, long rank) {
+        Passenger passenger = reservation.getPassenger();
+        if (passenger == null || passenger.getPassengerID() == null) {
+            return;
+        }
+        // compute anahtar başına atomik: boş indeksin silinmesiyle yarışmaz
+        reservationsByPassenger.compute(passenger.getPassengerID(), (id, own) -> {
+            if (own == null) {
+                own = new CodeIndex<>();
+            }
+            if (rank < 0) {
+                own.addOlder(rank, reservation.getReservationCode(), reservation);
+            } else {
+                own.add(reservation.getReservationCode(), reservation);
+            }
+            return own;
+        });
+    }
+
+    private void unindexByPassenger(Reservation reservation) {
+        Passenger passenger = reservation.getPassenger();
+        if (passenger == null || passenger.getPassengerID() == null) {
+            return;
+        }
+        reservationsByPassenger.computeIfPresent(passenger.getPassengerID(), (id, own) -> {
+            own.remove(reservation.getReservationCode());
+            return own.size() == 0 ? null : own;
+        });
+    }
+
+    private Ticket createTicket(Flight flight, Passenger passenger, Seat seat, Baggage baggage) {
+        // Reservation oluştur
+        String reservationCode = createReservationCode(flight, passenger, seat.getSeatNum());
+        LocalDateTime now = LocalDateTime.now();
+        Reservation reservation = new Reservation(reservationCode, flight, passenger, seat, now);
+
+        // Baggage allowance (sistem genelinde sabit)
+        double baggageAllowance = DEFAULT_BAGGAGE_ALLOWANCE_KG;
+
+        // Fiyatı hesapla
+        double price = priceCalculator.calculatePrice(
+                flight,
+                seat,
+                baggageAllowance,
+                baggage
+        );
+
+        // Ticket oluştur
+        String ticketId = createTicketId(reservation);
+        return new Ticket(ticketId, reservation, price, baggageAllowance, baggage);
+    }
+
+    // -------------------- GROUP BOOKING --------------------
+
+    /**
+     * Grup/aile rezervasyonu: passengers.get(i) → seatNums.get(i).
+     * Ya tüm koltuklar alınır ya hiçbiri (biri doluysa önceden alınanlar geri bırakılır);
+     * başarılı olursa tüm biletler tek seferde dosyaya yazılır.
+     *
+     * @param baggages null olabilir; verilirse passengers ile aynı uzunlukta olmalı
+     */
+    public List<Ticket> makeGroupReservation(Flight flight,
+                                             List<Passenger> passengers,
+                                             List<String> seatNums,
+                                             List<Baggage> baggages) {
+        validateGroup(flight, passengers, baggages);
+        if (seatNums == null || seatNums.size() != passengers.size()) {
+            throw new IllegalArgumentException("Seat count must match passenger count");
+        }
+
+        // Koltukları kilit dışında çöz; aynı koltuk iki kez istenmesin
+        List<Seat> seats = new ArrayList<>(seatNums.size());
+        Set<String> distinct = new HashSet<>();
+        for (String seatNum : seatNums) {
+            if (seatNum == null || seatNum.isBlank()) {
+                throw new IllegalArgumentException("Seat number cannot be null or blank");
+            }
+            Seat seat = seatManager.resolveSeatNumber(flight, seatNum);
+            if (seat == null) {
+                throw new IllegalArgumentException("Seat not found: " + seatNum);
+            }
+            if (!distinct.add(seat.getSeatNum())) {
+                throw new IllegalArgumentException("Seat requested twice: " + seatNum);
+            }
+            seats.add(seat);
+        }
+
+        List<Ticket> issued;
+        synchronized (lockFor(flight)) {
+            List<Seat> claimed = new ArrayList<>(seats.size());
+            for (Seat seat : seats) {
+                if (!seat.tryClaim()) {
+                    releaseAll(claimed);
+                    throw new IllegalStateException("Seat already reserved: " + seat.getSeatNum());
+                }
+                claimed.add(seat);
+            }
+            issued = issueGroupTickets(flight, passengers, claimed, baggages);
+            journalBookings(issued);
+        }
+
+        compactIfNeeded();
+
+        return issued;
+    }
+
+    /**
+     * Koltuk numarası vermeden grup rezervasyonu: verilen sınıftan passengers.size() kadar koltuk alınır.
+     * Mümkünse grup yan yana (tek sıra veya komşu iki sıra) oturtulur, değilse ilk boş koltuklar verilir.
+     * Yeterli boş koltuk yoksa hiçbiri alınmaz.
+     */
+    public List<Ticket> makeGroupReservation(Flight flight,
+                                             List<Passenger> passengers,
+                                             SeatClass seatClass,
+                                             List<Baggage> baggages) {
+        validateGroup(flight, passengers, baggages);
+        if (seatClass == null) {
+            throw new IllegalArgumentException("Seat class cannot be null");
+        }
+
+        int count = passengers.size();
+        List<Ticket> issued;
+        synchronized (lockFor(flight)) {
+            List<Seat> claimed = new ArrayList<>(count);
+
+            // Önce grubu yan yana oturtmayı dene
+            for (Seat seat : seatManager.findAdjacentBlock(flight, seatClass, count)) {
+                if (!seat.tryClaim()) {
+                    // blok bu arada bozuldu (kilit dışından alınan koltuk); dağınık yerleştir
+                    releaseAll(claimed);
+                    claimed.clear();
+                    break;
+                }
+                claimed.add(seat);
+            }
+
+            while (claimed.size() < count) {
+                Seat seat = seatManager.allocateAny(flight, seatClass);
+                if (seat == null) {
+                    releaseAll(claimed);
+                    throw new IllegalStateException("Not enough " + seatClass + " seats on flight "
+                            + flight.getFlightNum() + " for " + count + " passengers");
+                }
+                claimed.add(seat);
+            }
+            issued = issueGroupTickets(flight, passengers, claimed, baggages);
+            journalBookings(issued);
+        }
+
+        compactIfNeeded();
+
+        return issued;
+    }
+
+    private void validateGroup(Flight flight, List<Passenger> passengers, List<Baggage> baggages) {
+        if (flight == null) {
+            throw new IllegalArgumentException("Flight cannot be null");
+        }
+        if (passengers == null || passengers.isEmpty()) {
+            throw new IllegalArgumentException("Passenger list cannot be null or empty");
+        }
+        for (Passenger p : passengers) {
+            if (p == null) {
+                throw new IllegalArgumentException("Passenger cannot be null");
+            }
+        }
+        if (baggages != null && baggages.size() != passengers.size()) {
+            throw new IllegalArgumentException("Baggage count must match passenger count");
+        }
+    }
+
+    /**
+     * Tüm koltuklar alınmış durumda: biletleri tek geçişte oluşturup fiyatlar,
+     * sonra hepsini birlikte listelere ekler. Herhangi biri başarısız olursa tüm koltuklar bırakılır.
+     * Uçuş kilidi altında çağrılmalı.
+     */
+    private List<Ticket> issueGroupTickets(Flight flight,
+                                           List<Passenger> passengers,
+                                           List<Seat> claimed,
+                                           List<Baggage> baggages) {
+        List<Ticket> issued = new ArrayList<>(claimed.size());
+        try {
+            for (int i = 0; i < claimed.size(); i++) {
+                Baggage baggage = baggages == null ? null : baggages.get(i);
+                issued.add(createTicket(flight, passengers.get(i), claimed.get(i), baggage));
+            }
+        } catch (RuntimeException e) {
+            releaseAll(claimed);
+            throw e;
+        }
+
+        for (Ticket t : issued) {
+            addBooking(t);
+        }
+        return issued;
+    }
+
+    private void releaseAll(List<Seat> seats) {
+        for (Seat seat : seats) {
+            seat.release();
+        }
+    }
+
+    // -------------------- SEAT HOLDS --------------------
+
+    /**
+     * Koltuğu ttl süresince geçici olarak tutar (bagaj/ödeme girilirken).
+     * Süre dolarsa koltuk otomatik olarak bırakılır; makeReservation(hold, ...) ile kesinleştirilir.
+     */
+    public SeatHold holdSeat(Flight flight, String seatNum, Duration ttl) {
+        if (flight == null) {
+            throw new IllegalArgumentException("Flight cannot be null");
+        }
+        if (seatNum == null || seatNum.isBlank()) {
+            throw new IllegalArgumentException("Seat number cannot be null or blank");
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Hold duration must be positive");
+        }
+
+        Seat seat = seatManager.resolveSeatNumber(flight, seatNum);
+        if (seat == null) {
+            throw new IllegalArgumentException("Seat not found: " + seatNum);
+        }
+
+        synchronized (lockFor(flight)) {
+            String holdId = "H-" + flight.getFlightNum() + "-" + seat.getSeatNum() + "-" + holdSequence.incrementAndGet();
+            SeatHold hold = SeatHold.place(holdId, flight, seat, LocalDateTime.now().plus(ttl));
+            if (hold == null) {
+                throw new IllegalStateException("Seat already reserved or held: " + seatNum);
+            }
+            // Zamanlayıcı aynı şeridi kullandığından put'tan önce tetiklenemez
+            holdTimeouts.put(holdId, holdTimer.schedule(() -> expireHold(hold), ttl.toNanos(), TimeUnit.NANOSECONDS));
+            return hold;
+        }
+    }
+
+    /**
+     * Hold'u kesin rezervasyona çevirir. Hold'un süresi dolmuşsa veya zaten
+     * kullanılmışsa IllegalStateException fırlatır; koltuk başka alıcıya hiç açılmaz.
+     */
+    public Ticket makeReservation(SeatHold hold, Passenger passenger, Baggage baggage) {
+        if (hold == null) {
+            throw new IllegalArgumentException("Seat hold cannot be null");
+        }
+        if (passenger == null) {
+            throw new IllegalArgumentException("Passenger cannot be null");
+        }
+
+        Flight flight = hold.getFlight();
+        Ticket ticket;
+        synchronized (lockFor(flight)) {
+            if (!hold.convert()) {
+                throw new IllegalStateException("Seat hold is no longer active: " + hold.getHoldId());
+            }
+            cancelHoldTimeout(hold);
+            ticket = issueTicket(flight, passenger, hold.getSeat(), baggage);
+            journalBookings(List.of(ticket));
+        }
+
+        compactIfNeeded();
+
+        return ticket;
+    }
+
+    /**
+     * Yolcu vazgeçti; koltuğu süre dolmadan bırakır. Hold zaten bitmişse bir şey yapmaz.
+     */
+    public void releaseHold(SeatHold hold) {
+        if (hold == null) {
+            throw new IllegalArgumentException("Seat hold cannot be null");
+        }
+        synchronized (lockFor(hold.getFlight())) {
+            if (hold.release()) {
+                cancelHoldTimeout(hold);
+            }
+        }
+    }
+
+    /**
+     * İptal edilmiş ama arka plan compaction'ı henüz bellekten temizlememiş kayıt sayısı.
+     */
+    public int getTombstoneCount() {
+        return reservations.getTombstoneCount();
+    }
+
+    /**
+     * Bekleyen (süresi dolmamış, kullanılmamış) hold sayısı.
+     */
+    public int getActiveHoldCount() {
+        return holdTimeouts.size();
+    }
+
+    /**
+     * Hold zamanlayıcı thread'ini durdurur, journal'ı snapshot'a katlar ve journal yazıcısını
+     * kapatır (uygulama kapanırken).
+     */
+    public void shutdown() {
+        holdTimer.stop();
+        compactor.shutdown();
+        try {
+            compactor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (journalRecords > 0) {
+            compactNow();
+        }
+        synchronized (fileLock) {
+            reservationRepo.close();
+        }
+    }
+
+    private void expireHold(SeatHold hold) {
+        synchronized (lockFor(hold.getFlight())) {
+            holdTimeouts.remove(hold.getHoldId());
+            hold.expire();
+        }
+    }
+
+    private void cancelHoldTimeout(SeatHold hold) {
+        HashedTimingWheel.Timeout timeout = holdTimeouts.remove(hold.getHoldId());
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    public void cancelReservation(String reservationCode) {
+        if (reservationCode == null || reservationCode.isBlank()) {
+            throw new IllegalArgumentException("Reservation code cannot be null or blank");
+        }
+
+        Reservation reservation = findReservationWithCode(reservationCode);
+        if (reservation == null) {
+            throw new IllegalArgumentException("Reservation not found: " + reservationCode);
+        }
+
+        synchronized (lockFor(reservation.getFlight())) {
+            if (!reservation.isActive()) {
+                return; // zaten iptal edilmiş
+            }
+
+            // Reservation kendi iptal mantığını uygulasın (seat.release dahil)
+            reservation.cancel();
+
+            // Bileti ve rezervasyonu indekslerden çıkar: O(1) tombstone, yer arka plan compaction'ında geri alınır
+            tickets.remove(reservationCode);
+            reservations.remove(reservationCode);
+            unindexByPassenger(reservation);
+            countBooking(reservation, -1);
+            journalCancel(reservationCode);
+        }
+
+        compactIfNeeded();
+    }
+
+    public void loadData(List<Reservation> loadedReservations,
+                         List<Ticket> loadedTickets) {
+
+        this.reservations.clear();
+        this.tickets.clear();
+        this.reservationsByPassenger.clear();
+        this.bookingCounts.clear();
+
+        // Sadece aktif rezervasyonları al
+        for (Reservation r : loadedReservations) {
+            if (r.isActive()) {
+                this.reservations.add(r.getReservationCode(), r);
+                indexByPassenger(r);
+                countBooking(r, 1);
+            }
+        }
+
+        // Sadece rezervasyonu hâlâ aktif olan biletleri al
+        for (Ticket t : loadedTickets) {
+            if (t.getReservation() != null && t.getReservation().isActive()) {
+                this.tickets.add(t.getReservation().getReservationCode(), t);
+            }
+        }
+    }
+    /**
+     * Açılış yüklemesi: journal kuyruğundan gelen biletler (recent) hemen indekslenir; snapshot
+     * kayıtları (older) ayrı bir thread'de okunup sırada bunların önüne konur. Koltukları
+     * önceden geri yüklenmiş olmalıdır, older koltuklara dokunmaz. Kayıtları okuyan metotlar
+     * (listeler, kodla bulma, iptal, doluluk sayıları, compaction) older bitene kadar bekler.
+     */
+    public void loadData(List<Ticket> recent, Callable<List<Ticket>> older) {
+        List<Reservation> recentReservations = new ArrayList<>(recent.size());
+        for (Ticket t : recent) {
+            recentReservations.add(t.getReservation());
+        }
+        loadData(recentReservations, recent);
+
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        loaded = done;
+        Thread loader = new Thread(() -> {
+            try {
+                addOlder(older.call());
+                done.complete(null);
+            } catch (Exception e) {
+                done.completeExceptionally(e);
+            }
+        }, "reservation-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    private void addOlder(List<Ticket> older) {
+        long rank = -older.size();
+        for (Ticket t : older) {
+            Reservation r = t.getReservation();
+            String code = r.getReservationCode();
+            // kod bu arada yeniden eklendiyse yenisi geçerli
+            if (r.isActive() && reservations.addOlder(rank, code, r)) {
+                tickets.addOlder(rank, code, t);
+                indexByPassenger(r, rank);
+                countBooking(r, 1);
+            }
+            rank++;
+        }
+    }
+
+    public Ticket findTicketByReservationCode(String resCode) {
+        awaitLoaded();
+        return tickets.get(resCode);
+    }
+
+}
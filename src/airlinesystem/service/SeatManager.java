@@ -1,105 +1,282 @@
-package airlinesystem.service;
-
-import airlinesystem.model.Plane;
-import airlinesystem.model.Seat;
-import airlinesystem.model.SeatClass;
-
-public class SeatManager {
-
-    public void createSeats(Plane plane, int businessRows, double basePrice, double multiplier) {
-        if (plane == null) {
-            throw new IllegalArgumentException("Plane cannot be null");
-        }
-        if (basePrice < 0) {
-            throw new IllegalArgumentException("Base price cannot be negative");
-        }
-        if (multiplier <= 0) {
-            throw new IllegalArgumentException("Multiplier must be positive");
-        }
-
-        int rows = plane.getRows();
-        int columns = plane.getColumns();
-
-        if (businessRows < 0) {
-            businessRows = 0;
-        } else if (businessRows > rows) {
-            businessRows = rows;
-        }
-
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < columns; j++) {
-                char columnLetter = (char) ('A' + j);
-                String seatNumber = (i + 1) + String.valueOf(columnLetter);
-
-                SeatClass seatClass = (i < businessRows)
-                        ? SeatClass.BUSINESS
-                        : SeatClass.ECONOMY;
-
-                double price = basePrice;
-                if (seatClass == SeatClass.BUSINESS) {
-                    price = basePrice * multiplier;
-                }
-
-                Seat seat = new Seat(seatNumber, seatClass, price);
-                plane.setSeat(i, j, seat);
-            }
-        }
-    }
-
-    public int getAvailableSeatCount(Plane plane) {
-        if (plane == null) {
-            throw new IllegalArgumentException("Plane cannot be null");
-        }
-        int count = 0;
-        for (int i = 0; i < plane.getRows(); i++) {
-            for (int j = 0; j < plane.getColumns(); j++) {
-                Seat seat = plane.getSeat(i, j);
-                if (seat != null && !seat.isReserved()) {
-                    count++;
-                }
-            }
-        }
-        return count;
-    }
-
-    public int emptySeatsCount(Plane plane) {
-        return getAvailableSeatCount(plane);
-    }
-
-    public Seat resolveSeatNumber(Plane plane, String seatNumber) {
-        if (plane == null) {
-            throw new IllegalArgumentException("Plane cannot be null");
-        }
-        if (seatNumber == null || seatNumber.length() < 2) {
-            return null;
-        }
-
-        seatNumber = seatNumber.trim().toUpperCase();
-
-        char columnLetter = seatNumber.charAt(seatNumber.length() - 1);
-        String rowNum = seatNumber.substring(0, seatNumber.length() - 1);
-
-        int rowIndex;
-        try {
-            rowIndex = Integer.parseInt(rowNum) - 1;
-        } catch (NumberFormatException e) {
-            return null;
-        }
-
-        int colIndex = columnLetter - 'A';
-
-        try {
-            return plane.getSeat(rowIndex, colIndex);
-        } catch (IndexOutOfBoundsException e) {
-            return null;
-        }
-    }
-
-    public void reserveSeat(Plane plane, String seatNum) {
-        Seat seat = resolveSeatNumber(plane, seatNum);
-        if (seat == null) {
-            throw new IllegalArgumentException("Seat not found: " + seatNum);
-        }
-        seat.makeReservation();
-    }
-}
+package airlinesystem.service;
+
+import airlinesystem.model.CabinLayout;
+import airlinesystem.model.Flight;
+import airlinesystem.model.Plane;
+import airlinesystem.model.Seat;
+import airlinesystem.model.SeatClass;
+import airlinesystem.model.SeatInventory;
+import airlinesystem.model.SeatLabels;
+import airlinesystem.model.SeatOccupancy;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class SeatManager {
+
+    public static final int DEFAULT_BUSINESS_ROWS = 2;
+    public static final double DEFAULT_BUSINESS_MULTIPLIER = 1.5;
+
+    // "rows x cols / businessRows / multiplier" -> paylaşılan düzen
+    private final Map<String, CabinLayout> layouts = new ConcurrentHashMap<>();
+    // flightNum -> o uçuşun koltuk envanteri
+    private final Map<String, SeatInventory> inventories = new ConcurrentHashMap<>();
+
+    // -------------------- PER-FLIGHT INVENTORY --------------------
+
+    /**
+     * Uçuş için yeni bir koltuk envanteri oluşturur (varsa eskisinin yerine geçer).
+     * Aynı uçak tipini kullanan uçuşlar aynı CabinLayout'u paylaşır.
+     */
+    public SeatInventory createInventory(Flight flight, int businessRows, double multiplier) {
+        if (flight == null) {
+            throw new IllegalArgumentException("Flight cannot be null");
+        }
+        SeatInventory inventory = newInventory(flight, businessRows, multiplier);
+        inventories.put(flight.getFlightNum(), inventory);
+        return inventory;
+    }
+
+    /**
+     * Uçuşun envanterini döner; henüz yoksa varsayılan düzenle oluşturur.
+     */
+    public SeatInventory getInventory(Flight flight) {
+        if (flight == null) {
+            throw new IllegalArgumentException("Flight cannot be null");
+        }
+        // önce düz get: computeIfAbsent'in yakalayan lambda'sı her çağrıda nesne ayırır
+        SeatInventory inventory = inventories.get(flight.getFlightNum());
+        if (inventory != null) {
+            return inventory;
+        }
+        return inventories.computeIfAbsent(flight.getFlightNum(),
+                k -> newInventory(flight, DEFAULT_BUSINESS_ROWS, DEFAULT_BUSINESS_MULTIPLIER));
+    }
+
+    public SeatInventory findInventory(String flightNum) {
+        if (flightNum == null) return null;
+        return inventories.get(flightNum);
+    }
+
+    public void removeInventory(String flightNum) {
+        if (flightNum != null) {
+            inventories.remove(flightNum);
+        }
+    }
+
+    public int getAvailableSeatCount(Flight flight) {
+        return getInventory(flight).getAvailableSeatCount();
+    }
+
+    public Seat resolveSeatNumber(Flight flight, String seatNumber) {
+        SeatInventory inventory = getInventory(flight);
+
+        int index = inventory.resolveIndex(seatNumber);
+        return index < 0 ? null : inventory.getSeatAt(index);
+    }
+
+    /**
+     * resolveSeatNumber'ın nesnesiz hali: koltuğun index'i (row * columns + column), geçersizse -1.
+     * Sadece doluluk sorulacaksa getInventory(flight).isReserved(index) ile birlikte kullanılır.
+     */
+    public int resolveIndex(Flight flight, String seatNumber) {
+        return getInventory(flight).resolveIndex(seatNumber);
+    }
+
+    // -------------------- FREE-SEAT INDEX --------------------
+
+    /**
+     * Uçuşun verilen sınıfındaki ilk uygun koltuğu atomik olarak alır (rastgele deneme yok).
+     * Dönen koltuk zaten rezerve işaretlidir; kullanılmayacaksa release() edilmelidir.
+     * @return alınan koltuk, sınıf doluysa null
+     */
+    public Seat allocateAny(Flight flight, SeatClass seatClass) {
+        return getInventory(flight).claimAny(seatClass);
+    }
+
+    /**
+     * Uçuşta verilen sıradaki (0 tabanlı) ilk boş koltuk; yoksa null. Koltuğu almaz.
+     */
+    public Seat nextFree(Flight flight, int row) {
+        return getInventory(flight).nextFree(row);
+    }
+
+    public Iterator<Seat> freeSeatsIterator(Flight flight) {
+        return getInventory(flight).freeSeats(null);
+    }
+
+    public Iterator<Seat> freeSeatsIterator(Flight flight, SeatClass seatClass) {
+        if (seatClass == null) {
+            throw new IllegalArgumentException("Seat class cannot be null");
+        }
+        return getInventory(flight).freeSeats(seatClass);
+    }
+
+    /**
+     * Uçuşun verilen sınıfında k kişinin yan yana oturabileceği boş koltukları bulur.
+     * Önce tek sırada k bitişik koltuk aranır; yoksa art arda iki sıraya bölünmüş
+     * (üst sırada mümkün olduğunca çok kişi) bir blok aranır. İki parça en az bir sütunda
+     * üst üste gelmelidir (biri diğerinin hemen arkasında); kabinin iki ucuna düşen
+     * parçalar "yan yana" sayılmaz. Koltuklar alınmaz,
+     * sadece önerilir; alacak taraf tryClaim ile almalıdır.
+     *
+     * @return soldan sağa, önden arkaya sıralı koltuklar; blok yoksa boş liste
+     */
+    public List<Seat> findAdjacentBlock(Flight flight, SeatClass seatClass, int k) {
+        if (seatClass == null) {
+            throw new IllegalArgumentException("Seat class cannot be null");
+        }
+        if (k <= 0) {
+            throw new IllegalArgumentException("Seat count must be positive");
+        }
+
+        SeatInventory inventory = getInventory(flight);
+        CabinLayout layout = inventory.getLayout();
+        SeatOccupancy occupancy = inventory.getOccupancy();
+        int fromRow = layout.getFirstRow(seatClass);
+        int toRow = layout.getEndRow(seatClass);
+        int columns = layout.getColumns();
+
+        // 1) Tek sırada k bitişik koltuk
+        int index = occupancy.findFreeRun(fromRow, toRow, k);
+        if (index >= 0) {
+            List<Seat> block = new ArrayList<>(k);
+            addRun(inventory, index / columns, index % columns, k, block);
+            return block;
+        }
+
+        // 2) Komşu iki sıraya bölünmüş blok (ör. 4 kişi → 3 + 1, 2 + 2 ...); arka parça
+        //    [frontCol, frontCol + front) sütunlarından en az biriyle çakışmalı
+        for (int row = fromRow; row + 1 < toRow; row++) {
+            for (int front = Math.min(k - 1, columns); front >= 1 && k - front <= columns; front--) {
+                int back = k - front;
+                int frontCol = occupancy.findFreeRun(row, front);
+                while (frontCol >= 0) {
+                    int backCol = occupancy.findFreeRunStartingIn(row + 1, back,
+                            frontCol - back + 1, frontCol + front - 1);
+                    if (backCol >= 0) {
+                        List<Seat> block = new ArrayList<>(k);
+                        addRun(inventory, row, frontCol, front, block);
+                        addRun(inventory, row + 1, backCol, back, block);
+                        return block;
+                    }
+                    frontCol = occupancy.findFreeRunStartingIn(row, front, frontCol + 1, columns - front);
+                }
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * "k kişi yan yana oturabilir mi?" sorusunun kısa hali.
+     */
+    public boolean canSeatTogether(Flight flight, SeatClass seatClass, int k) {
+        return !findAdjacentBlock(flight, seatClass, k).isEmpty();
+    }
+
+    private void addRun(SeatInventory inventory, int row, int fromColumn, int length, List<Seat> target) {
+        for (int c = fromColumn; c < fromColumn + length; c++) {
+            target.add(inventory.getSeat(row, c));
+        }
+    }
+
+    private SeatInventory newInventory(Flight flight, int businessRows, double multiplier) {
+        if (multiplier <= 0) {
+            throw new IllegalArgumentException("Multiplier must be positive");
+        }
+        Plane plane = flight.getFlightPlane();
+        CabinLayout layout = getLayout(plane.getRows(), plane.getColumns(), businessRows, multiplier);
+        return new SeatInventory(flight.getFlightNum(), layout, flight.getEconomyBasePrice());
+    }
+
+    private CabinLayout getLayout(int rows, int columns, int businessRows, double multiplier) {
+        int business = Math.max(0, Math.min(businessRows, rows));
+        String key = rows + "x" + columns + "/" + business + "/" + multiplier;
+        return layouts.computeIfAbsent(key, k -> new CabinLayout(rows, columns, business, multiplier));
+    }
+
+    // -------------------- PLANE-LEVEL SEATS --------------------
+
+    public void createSeats(Plane plane, int businessRows, double basePrice, double multiplier) {
+        if (plane == null) {
+            throw new IllegalArgumentException("Plane cannot be null");
+        }
+        if (basePrice < 0) {
+            throw new IllegalArgumentException("Base price cannot be negative");
+        }
+        if (multiplier <= 0) {
+            throw new IllegalArgumentException("Multiplier must be positive");
+        }
+
+        int rows = plane.getRows();
+        int columns = plane.getColumns();
+
+        if (businessRows < 0) {
+            businessRows = 0;
+        } else if (businessRows > rows) {
+            businessRows = rows;
+        }
+
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                String seatNumber = SeatLabels.label(i, j);
+
+                SeatClass seatClass = (i < businessRows)
+                        ? SeatClass.BUSINESS
+                        : SeatClass.ECONOMY;
+
+                double price = basePrice;
+                if (seatClass == SeatClass.BUSINESS) {
+                    price = basePrice * multiplier;
+                }
+
+                Seat seat = new Seat(seatNumber, seatClass, price);
+                plane.setSeat(i, j, seat);
+            }
+        }
+    }
+
+    /**
+     * Uçak matrisindeki tek başına koltuklar için tarama; uçuşlar için getInventory(flight) kullanılır.
+     */
+    public int getAvailableSeatCount(Plane plane) {
+        if (plane == null) {
+            throw new IllegalArgumentException("Plane cannot be null");
+        }
+        int count = 0;
+        for (int i = 0; i < plane.getRows(); i++) {
+            for (int j = 0; j < plane.getColumns(); j++) {
+                Seat seat = plane.getSeat(i, j);
+                if (seat != null && !seat.isReserved()) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    public int emptySeatsCount(Plane plane) {
+        return getAvailableSeatCount(plane);
+    }
+
+    public Seat resolveSeatNumber(Plane plane, String seatNumber) {
+        if (plane == null) {
+            throw new IllegalArgumentException("Plane cannot be null");
+        }
+
+        int columns = plane.getColumns();
+        int index = SeatLabels.parseIndex(seatNumber, plane.getRows(), columns);
+        return index < 0 ? null : plane.getSeat(index / columns, index % columns);
+    }
+
+    public void reserveSeat(Plane plane, String seatNum) {
+        Seat seat = resolveSeatNumber(plane, seatNum);
+        if (seat == null) {
+            throw new IllegalArgumentException("Seat not found: " + seatNum);
+        }
+        seat.makeReservation();
+    }
+}
@@ -0,0 +1,154 @@
+package airlinesystem.ui;
+
+import airlinesystem.model.Flight;
+import airlinesystem.service.FlightPage;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Uçuş tablosunun sayfa sayfa dolan modeli.
+ *
+ * Sadece ilk sayfa hemen yüklenir; tablo sonlara yakın bir satırı çizmek istediğinde
+ * (kullanıcı aşağı kaydırınca) bir sonraki sayfa EDT'de sıradaki işe bırakılarak getirilir.
+ * Toplam sonuç sayısı bilinmez; getRowCount yüklenmiş satır sayısıdır.
+ */
+public class FlightPageTableModel extends AbstractTableModel {
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    // son PREFETCH_ROWS satırdan biri istenince sonraki sayfa getirilir
+    private static final int PREFETCH_ROWS = 20;
+
+    /**
+     * Bir sonraki sayfayı getiren sorgu (ör. FlightManager.searchFlights'a bağlı lambda).
+     */
+    public interface PageSource {
+        FlightPage fetch(FlightPage.Cursor after, int pageSize);
+    }
+
+    private static final String[] COLUMNS = {
+            "Flight No",
+            "From",
+            "To",
+            "Date",
+            "Time",
+            "Duration (min)",
+            "Plane",
+            "Base Price"
+    };
+
+    private final int pageSize;
+    private final List<Flight> rows = new ArrayList<>();
+    private PageSource source;
+    private FlightPage.Cursor nextCursor;
+    private boolean hasMore;
+    private boolean loading;
+
+    public FlightPageTableModel() {
+        this(DEFAULT_PAGE_SIZE);
+    }
+
+    public FlightPageTableModel(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Yeni sorguya geçer: eski satırlar atılır, ilk sayfa hemen yüklenir.
+     */
+    public void load(PageSource source) {
+        this.source = source;
+        rows.clear();
+        nextCursor = null;
+        hasMore = source != null;
+        loading = false;
+        fireTableDataChanged();
+        loadNextPage();
+    }
+
+    public void clear() {
+        load(null);
+    }
+
+    /**
+     * Sorgunun henüz yüklenmemiş sayfaları var mı?
+     */
+    public boolean hasMore() {
+        return hasMore;
+    }
+
+    public Flight getFlightAt(int row) {
+        return rows.get(row);
+    }
+
+    private void loadNextPage() {
+        if (!hasMore) {
+            return;
+        }
+        FlightPage page = source.fetch(nextCursor, pageSize);
+        nextCursor = page.getNextCursor();
+        hasMore = page.hasNext();
+
+        List<Flight> flights = page.getFlights();
+        if (!flights.isEmpty()) {
+            int first = rows.size();
+            rows.addAll(flights);
+            fireTableRowsInserted(first, rows.size() - 1);
+        } else if (!hasMore) {
+            // boş son sayfa: dinleyiciler "yükleme bitti"yi görebilsin
+            fireTableDataChanged();
+        }
+    }
+
+    private void prefetchIfNeeded(int row) {
+        if (!hasMore || loading || row < rows.size() - PREFETCH_ROWS) {
+            return;
+        }
+        // çizim sırasında modeli değiştirmemek için sonraki EDT işine bırak
+        loading = true;
+        PageSource requested = source;
+        SwingUtilities.invokeLater(() -> {
+            loading = false;
+            if (source == requested) {
+                loadNextPage();
+            }
+        });
+    }
+
+    @Override
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        prefetchIfNeeded(row);
+        Flight f = rows.get(row);
+        switch (column) {
+            case 0: return f.getFlightNum();
+            case 1: return f.getFlightRoute().getDeparturePlace();
+            case 2: return f.getFlightRoute().getArrivalPlace();
+            case 3: return f.getDate();
+            case 4: return f.getTime();
+            case 5: return f.getFlightDuration();
+            case 6: return f.getFlightPlane().getPlaneModel();
+            case 7: return f.getEconomyBasePrice();
+            default: throw new IndexOutOfBoundsException("Invalid column: " + column);
+        }
+    }
+}
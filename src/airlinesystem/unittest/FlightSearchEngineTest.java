@@ -1,128 +1,465 @@
-package airlinesystem.unittest;
-
-import airlinesystem.model.Flight;
-import airlinesystem.model.Plane;
-import airlinesystem.model.Route;
-import airlinesystem.model.Staff;
-import airlinesystem.service.FlightManager;
-import org.junit.Test;
-
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.util.List;
-
-import static org.junit.Assert.*;
-
-public class FlightSearchEngineTest {
-
-    private Staff adminStaff() {
-        return new Staff("S001", "Admin", "User", "admin@gmail.com",
-                "adminuser", "123456", "ADMIN");
-    }
-
-    private Flight createFlight(String flightNo, String from, String to, LocalDateTime depDT) {
-        Plane plane = new Plane("P1", "Boeing 737", 5, 4);
-        Route route = new Route(from, to);
-        return new Flight(
-                flightNo,
-                route,
-                plane,
-                depDT.toLocalDate(),
-                depDT.toLocalTime(),
-                60,
-                1000.0
-        );
-    }
-
-    @Test
-    public void searchAvailableFlights_filtersByRouteAndTime() {
-        FlightManager fm = new FlightManager();
-        Staff admin = adminStaff();
-
-        LocalDateTime now = LocalDateTime.of(2026, 1, 6, 10, 0);
-
-        // IST->ESB future (should match)
-        fm.addFlight(admin, createFlight("F001", "IST", "ESB", now.plusHours(2)));
-
-        // IST->ESB past (should NOT match)
-        fm.addFlight(admin, createFlight("F002", "IST", "ESB", now.minusHours(2)));
-
-        // different route (should NOT match)
-        fm.addFlight(admin, createFlight("F003", "IST", "ADB", now.plusHours(2)));
-
-        List<Flight> result = fm.searchAvailableFlights("IST", "ESB", now);
-
-        assertEquals(1, result.size());
-        assertEquals("F001", result.get(0).getFlightNum());
-    }
-
-    @Test
-    public void filterFutureFlights_eliminatesPastFlights() {
-        FlightManager fm = new FlightManager();
-        Staff admin = adminStaff();
-
-        LocalDateTime now = LocalDateTime.of(2026, 1, 6, 10, 0);
-
-        fm.addFlight(admin, createFlight("F001", "IST", "ESB", now.plusMinutes(10)));
-        fm.addFlight(admin, createFlight("F002", "IST", "ESB", now.minusMinutes(10)));
-
-        List<Flight> result = fm.filterFutureFlights(now);
-
-        assertEquals(1, result.size());
-        assertEquals("F001", result.get(0).getFlightNum());
-    }
-
-    @Test
-    public void searchAvailableFlights_isCaseInsensitiveForCities() {
-        FlightManager fm = new FlightManager();
-        Staff admin = adminStaff();
-
-        LocalDateTime now = LocalDateTime.of(2026, 1, 6, 10, 0);
-
-        fm.addFlight(admin, createFlight("F001", "IST", "ESB", now.plusHours(1)));
-
-        List<Flight> result = fm.searchAvailableFlights("ist", "esb", now);
-
-        assertEquals(1, result.size());
-        assertEquals("F001", result.get(0).getFlightNum());
-    }
-
-    @Test(expected = IllegalArgumentException.class)
-    public void searchAvailableFlights_throwsIfDepartureOrArrivalNull() {
-        FlightManager fm = new FlightManager();
-        fm.searchAvailableFlights(null, "ESB", LocalDateTime.now());
-    }
-    
-    @Test
-    public void searchAvailableFlights_filtersByDepartureAndArrivalCities() {
-        FlightManager fm = new FlightManager();
-        Staff admin = new Staff("S001","A","B","x@gmail.com","admin","123456","ADMIN");
-
-        Plane p = new Plane("P1","B737",5,4);
-
-        // doğru rota
-        fm.addFlight(admin, new Flight("F001", new Route("IST","ESB"), p,
-                LocalDate.now().plusDays(1), LocalTime.of(10,0), 60, 1000));
-
-        // departure doğru, arrival yanlış
-        fm.addFlight(admin, new Flight("F002", new Route("IST","ADB"), p,
-                LocalDate.now().plusDays(1), LocalTime.of(10,0), 60, 1000));
-
-        // arrival doğru, departure yanlış
-        fm.addFlight(admin, new Flight("F003", new Route("ANK","ESB"), p,
-                LocalDate.now().plusDays(1), LocalTime.of(10,0), 60, 1000));
-
-        // ikisi de yanlış
-        fm.addFlight(admin, new Flight("F004", new Route("ANK","ADB"), p,
-                LocalDate.now().plusDays(1), LocalTime.of(10,0), 60, 1000));
-
-        LocalDateTime now = LocalDateTime.now();
-
-        List<Flight> result = fm.searchAvailableFlights("IST", "ESB", now);
-
-        assertEquals(1, result.size());
-        assertEquals("F001", result.get(0).getFlightNum());
-    }
-
-}
+package airlinesystem.unittest;
+
+import airlinesystem.model.Flight;
+import airlinesystem.model.Itinerary;
+import airlinesystem.model.Plane;
+import airlinesystem.model.Route;
+import airlinesystem.model.Staff;
+import airlinesystem.service.CityIndex;
+import airlinesystem.service.ConnectionSearchEngine;
+import airlinesystem.service.FlightCatalog;
+import airlinesystem.service.FlightManager;
+import airlinesystem.service.FlightPage;
+import airlinesystem.service.FlightSearchCache;
+import airlinesystem.service.SeatManager;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class FlightSearchEngineTest {
+
+    private Staff adminStaff() {
+        return new Staff("S001", "Admin", "User", "admin@gmail.com",
+                "adminuser", "123456", "ADMIN");
+    }
+
+    private Flight createFlight(String flightNo, String from, String to, LocalDateTime depDT) {
+        Plane plane = new Plane("P1", "Boeing 737", 5, 4);
+        Route route = new Route(from, to);
+        return new Flight(
+                flightNo,
+                route,
+                plane,
+                depDT.toLocalDate(),
+                depDT.toLocalTime(),
+                60,
+                1000.0
+        );
+    }
+
+    @Test
+    public void searchAvailableFlights_filtersByRouteAndTime() {
+        FlightManager fm = new FlightManager();
+        Staff admin = adminStaff();
+
+        LocalDateTime now = LocalDateTime.of(2026, 1, 6, 10, 0);
+
+        // IST->ESB future (should match)
+        fm.addFlight(admin, createFlight("F001", "IST", "ESB", now.plusHours(2)));
+
+        // IST->ESB past (should NOT match)
+        fm.addFlight(admin, createFlight("F002", "IST", "ESB", now.minusHours(2)));
+
+        // different route (should NOT match)
+        fm.addFlight(admin, createFlight("F003", "IST", "ADB", now.plusHours(2)));
+
+        List<Flight> result = fm.searchAvailableFlights("IST", "ESB", now);
+
+        assertEquals(1, result.size());
+        assertEquals("F001", result.get(0).getFlightNum());
+    }
+
+    @Test
+    public void filterFutureFlights_eliminatesPastFlights() {
+        FlightManager fm = new FlightManager();
+        Staff admin = adminStaff();
+
+        LocalDateTime now = LocalDateTime.of(2026, 1, 6, 10, 0);
+
+        fm.addFlight(admin, createFlight("F001", "IST", "ESB", now.plusMinutes(10)));
+        fm.addFlight(admin, createFlight("F002", "IST", "ESB", now.minusMinutes(10)));
+
+        List<Flight> result = fm.filterFutureFlights(now);
+
+        assertEquals(1, result.size());
+        assertEquals("F001", result.get(0).getFlightNum());
+    }
+
+    @Test
+    public void searchAvailableFlights_isCaseInsensitiveForCities() {
+        FlightManager fm = new FlightManager();
+        Staff admin = adminStaff();
+
+        LocalDateTime now = LocalDateTime.of(2026, 1, 6, 10, 0);
+
+        fm.addFlight(admin, createFlight("F001", "IST", "ESB", now.plusHours(1)));
+
+        List<Flight> result = fm.searchAvailableFlights("ist", "esb", now);
+
+        assertEquals(1, result.size());
+        assertEquals("F001", result.get(0).getFlightNum());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void searchAvailableFlights_throwsIfDepartureOrArrivalNull() {
+        FlightManager fm = new FlightManager();
+        fm.searchAvailableFlights(null, "ESB", LocalDateTime.now());
+    }
+    
+    @Test
+    public void searchAvailableFlights_filtersByDepartureAndArrivalCities() {
+        FlightManager fm = new FlightManager();
+        Staff admin = new Staff("S001","A","B","x@gmail.com","admin","123456","ADMIN");
+
+        Plane p = new Plane("P1","B737",5,4);
+
+        // doğru rota
+        fm.addFlight(admin, new Flight("F001", new Route("IST","ESB"), p,
+                LocalDate.now().plusDays(1), LocalTime.of(10,0), 60, 1000));
+
+        // departure doğru, arrival yanlış
+        fm.addFlight(admin, new Flight("F002", new Route("IST","ADB"), p,
+                LocalDate.now().plusDays(1), LocalTime.of(10,0), 60, 1000));
+
+        // arrival doğru, departure yanlış
+        fm.addFlight(admin, new Flight("F003", new Route("ANK","ESB"), p,
+                LocalDate.now().plusDays(1), LocalTime.of(10,0), 60, 1000));
+
+        // ikisi de yanlış
+        fm.addFlight(admin, new Flight("F004", new Route("ANK","ADB"), p,
+                LocalDate.now().plusDays(1), LocalTime.of(10,0), 60, 1000));
+
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Flight> result = fm.searchAvailableFlights("IST", "ESB", now);
+
+        assertEquals(1, result.size());
+        assertEquals("F001", result.get(0).getFlightNum());
+    }
+
+    @Test
+    public void flightNumberIndex_staysConsistentThroughUpdateAndRemove() {
+        FlightManager fm = new FlightManager();
+        Staff admin = adminStaff();
+        LocalDateTime now = LocalDateTime.of(2026, 1, 6, 10, 0);
+
+        fm.addFlight(admin, createFlight("F001", "IST", "ESB", now.plusHours(1)));
+        fm.addFlight(admin, createFlight("F002", "IST", "ADB", now.plusHours(2)));
+        fm.addFlight(admin, createFlight("F003", "ESB", "IST", now.plusHours(3)));
+
+        Flight updated = createFlight("F002", "IST", "AYT", now.plusHours(5));
+        assertTrue(fm.updateFlight(admin, updated));
+        assertSame(updated, fm.findByFlightNum("F002"));
+        // güncelleme listedeki sırayı değiştirmemeli
+        assertEquals("F002", fm.getFlights().get(1).getFlightNum());
+
+        assertTrue(fm.removeFlight(admin, "F001"));
+        assertNull(fm.findByFlightNum("F001"));
+        assertFalse(fm.removeFlight(admin, "F001"));
+        assertFalse(fm.updateFlight(admin, createFlight("F001", "IST", "ESB", now)));
+        assertEquals(2, fm.getFlights().size());
+
+        // silinen numara tekrar eklenebilir, var olan eklenemez
+        fm.addFlight(admin, createFlight("F001", "IST", "ESB", now.plusHours(4)));
+        try {
+            fm.addFlight(admin, createFlight("F003", "IST", "ESB", now));
+            fail("duplicate flight number accepted");
+        } catch (IllegalArgumentException expected) {
+            // beklenen
+        }
+        assertEquals("ESB", fm.findByFlightNum("F003").getDeparturePlace());
+    }
+
+    @Test
+    public void routeIndex_returnsSortedFutureDeparturesAndFollowsUpdates() {
+        FlightManager fm = new FlightManager();
+        Staff admin = adminStaff();
+        LocalDateTime now = LocalDateTime.of(2026, 1, 6, 10, 0);
+
+        fm.addFlight(admin, createFlight("F003", "IST", "ESB", now.plusDays(1)));
+        fm.addFlight(admin, createFlight("F001", "IST", "ESB", now.plusHours(3)));
+        fm.addFlight(admin, createFlight("F002", "IST", "ESB", now));          // tam şimdi: dahil
+        fm.addFlight(admin, createFlight("F004", "IST", "ESB", now.minusMinutes(1)));
+
+        List<Flight> result = fm.searchAvailableFlights("Ist", "eSB", now);
+        assertEquals(3, result.size());
+        assertEquals("F002", result.get(0).getFlightNum());
+        assertEquals("F001", result.get(1).getFlightNum());
+        assertEquals("F003", result.get(2).getFlightNum());
+
+        // gün filtresi
+        List<Flight> today = fm.searchAvailableFlights("IST", "ESB", now, now.toLocalDate());
+        assertEquals(2, today.size());
+        List<Flight> tomorrow = fm.searchAvailableFlights("IST", "ESB", now, now.toLocalDate().plusDays(1));
+        assertEquals(1, tomorrow.size());
+        assertEquals("F003", tomorrow.get(0).getFlightNum());
+
+        // rota değişince eski rotadan düşer, yenisinde bulunur
+        fm.updateFlight(admin, createFlight("F001", "IST", "ADB", now.plusHours(3)));
+        assertEquals(2, fm.searchAvailableFlights("IST", "ESB", now).size());
+        assertEquals("F001", fm.searchAvailableFlights("ist", "adb", now).get(0).getFlightNum());
+
+        fm.removeFlight(admin, "F001");
+        assertTrue(fm.searchAvailableFlights("IST", "ADB", now).isEmpty());
+    }
+
+    @Test
+    public void departureIndex_answersRangeQueriesAcrossArchivedFlights() {
+        FlightManager fm = new FlightManager();
+        Staff admin = adminStaff();
+        LocalDateTime real = LocalDateTime.now().withNano(0);
+
+        fm.addFlight(admin, createFlight("F001", "IST", "ESB", real.minusDays(2)));
+        fm.addFlight(admin, createFlight("F002", "IST", "ADB", real.minusHours(1)));
+        fm.addFlight(admin, createFlight("F003", "ESB", "IST", real.plusHours(1)));
+        fm.addFlight(admin, createFlight("F004", "ADB", "IST", real.plusDays(2)));
+
+        // gerçek saatle sorgu: kalkmış uçuşlar sıcak indeksten düşer
+        List<Flight> future = fm.filterFutureFlights(real);
+        assertEquals(2, future.size());
+        assertEquals("F003", future.get(0).getFlightNum());
+
+        // daha eski bir "now" ile sorgu soğuk kısmı da görmeli
+        List<Flight> sinceThreeDaysAgo = fm.filterFutureFlights(real.minusDays(3));
+        assertEquals(4, sinceThreeDaysAgo.size());
+        assertEquals("F001", sinceThreeDaysAgo.get(0).getFlightNum());
+        assertEquals("F004", sinceThreeDaysAgo.get(3).getFlightNum());
+
+        List<Flight> between = fm.getFlightsBetween(real.minusHours(2), real.plusHours(2));
+        assertEquals(2, between.size());
+        assertEquals("F002", between.get(0).getFlightNum());
+        assertEquals("F003", between.get(1).getFlightNum());
+
+        assertEquals(1, fm.getFlightsOn(real.minusDays(2).toLocalDate()).size());
+
+        // arşivlenmiş uçuş silinebilmeli
+        assertTrue(fm.removeFlight(admin, "F001"));
+        assertEquals(3, fm.filterFutureFlights(real.minusDays(3)).size());
+    }
+
+    @Test
+    public void connectionSearch_respectsConnectionWindowLegsAndSeats() {
+        FlightManager fm = new FlightManager();
+        SeatManager sm = new SeatManager();
+        Staff admin = adminStaff();
+        LocalDateTime day = LocalDateTime.of(2030, 3, 1, 0, 0);
+
+        fm.addFlight(admin, createFlight("D01", "IST", "ADB", day.plusHours(15)));      // direkt
+        fm.addFlight(admin, createFlight("L01", "IST", "ESB", day.plusHours(10)));      // iniş 11:00
+        fm.addFlight(admin, createFlight("L02", "ESB", "ADB", day.plusHours(11).plusMinutes(30))); // aktarma kısa
+        fm.addFlight(admin, createFlight("L03", "ESB", "ADB", day.plusHours(12)));      // uygun
+        fm.addFlight(admin, createFlight("L04", "ESB", "ADB", day.plusHours(26)));      // aktarma çok uzun
+        fm.addFlight(admin, createFlight("L05", "IST", "AYT", day.plusHours(8)));       // iniş 09:00
+        fm.addFlight(admin, createFlight("L06", "AYT", "ESB", day.plusHours(10)));      // iniş 11:00
+        fm.addFlight(admin, createFlight("L07", "ESB", "IST", day.plusHours(12)));      // geri dönüş döngüsü
+
+        Flight full = createFlight("L08", "ESB", "ADB", day.plusHours(13));
+        fm.addFlight(admin, full);
+        sm.createInventory(full, 0, 1.0);
+        for (int r = 1; r <= 5; r++) {
+            for (char c = 'A'; c <= 'D'; c++) {
+                sm.resolveSeatNumber(full, r + String.valueOf(c)).makeReservation();
+            }
+        }
+
+        ConnectionSearchEngine engine = new ConnectionSearchEngine(fm, sm);
+
+        List<Itinerary> twoLegs = engine.search("ist", "ADB", day, day.plusDays(1), 2, 1);
+        assertEquals(2, twoLegs.size());
+        assertEquals("IST -> ESB -> ADB (L01, L03)", twoLegs.get(0).toString());
+        assertEquals("IST -> ADB (D01)", twoLegs.get(1).toString());
+
+        List<Itinerary> threeLegs = engine.search("IST", "ADB", day, day.plusDays(1), 3, 1);
+        assertEquals(3, threeLegs.size());
+        assertEquals("IST -> AYT -> ESB -> ADB (L05, L06, L03)", threeLegs.get(1).toString());
+
+        assertTrue(engine.search("IST", "ADB", day, day.plusDays(1), 1, 1).stream()
+                .allMatch(it -> it.getLegCount() == 1));
+        assertTrue(engine.search("ADB", "IST", day, day.plusDays(1), 3, 1).isEmpty());
+    }
+
+    @Test
+    public void catalogSnapshot_isSharedUntilNextWriteAndNeverChanges() {
+        FlightManager fm = new FlightManager();
+        Staff admin = adminStaff();
+        LocalDateTime now = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+        fm.addFlight(admin, createFlight("F001", "IST", "ESB", now.plusHours(1)));
+        FlightCatalog first = fm.getCatalog();
+        assertSame(first, fm.getCatalog());
+        assertSame(first.getFlights(), fm.getFlights());
+        assertEquals(fm.getVersion(), first.getVersion());
+
+        fm.addFlight(admin, createFlight("F002", "IST", "ADB", now.plusHours(2)));
+        FlightCatalog second = fm.getCatalog();
+        assertNotSame(first, second);
+        assertTrue(second.getVersion() > first.getVersion());
+
+        // eski snapshot'ı tutan okuyucu eski görüntüyü görmeye devam eder
+        assertEquals(1, first.size());
+        assertNull(first.findByFlightNum("F002"));
+        assertEquals(2, second.size());
+        assertEquals("F002", second.findByFlightNum("F002").getFlightNum());
+
+        try {
+            second.getFlights().clear();
+            fail("catalog list must be immutable");
+        } catch (UnsupportedOperationException expected) {
+            // beklenen
+        }
+
+        // başarısız yazma sürümü değiştirmez
+        long version = fm.getVersion();
+        assertFalse(fm.removeFlight(admin, "NOPE"));
+        assertSame(second, fm.getCatalog());
+        assertEquals(version, fm.getVersion());
+    }
+
+    @Test
+    public void searchCache_hitsRepeatedQueriesAndInvalidatesOnlyTouchedRouteDay() {
+        FlightManager fm = new FlightManager();
+        Staff admin = adminStaff();
+        LocalDateTime day = LocalDateTime.of(2030, 5, 1, 0, 0);
+        LocalDate d1 = day.toLocalDate();
+        LocalDate d2 = d1.plusDays(1);
+
+        fm.addFlight(admin, createFlight("F001", "IST", "ESB", day.plusHours(9)));
+        fm.addFlight(admin, createFlight("F002", "IST", "ESB", day.plusHours(15)));
+        fm.addFlight(admin, createFlight("F003", "IST", "ESB", day.plusDays(1).plusHours(9)));
+        fm.addFlight(admin, createFlight("F004", "IST", "ADB", day.plusHours(9)));
+        FlightSearchCache cache = fm.getSearchCache();
+
+        assertEquals(2, fm.searchAvailableFlights("IST", "ESB", day, d1).size());
+        assertEquals(1, fm.searchAvailableFlights("ist", "esb", day, d2).size());
+        assertEquals(1, fm.searchAvailableFlights("IST", "ADB", day, d1).size());
+        assertEquals(0, cache.getHits());
+        assertEquals(3, cache.getMisses());
+
+        // aynı sorgu (farklı yazım, ilerlemiş saat) önbellekten gelir; now filtresi yine uygulanır
+        List<Flight> later = fm.searchAvailableFlights("Ist", "Esb", day.plusHours(12), d1);
+        assertEquals(1, later.size());
+        assertEquals("F002", later.get(0).getFlightNum());
+        assertEquals(1, cache.getHits());
+
+        // IST>ESB d1'e eklenen uçuş sadece o günün kaydını siler
+        fm.addFlight(admin, createFlight("F005", "IST", "ESB", day.plusHours(20)));
+        assertEquals(3, fm.searchAvailableFlights("IST", "ESB", day, d1).size());
+        assertEquals(1, fm.searchAvailableFlights("IST", "ESB", day, d2).size());
+        assertEquals(1, fm.searchAvailableFlights("IST", "ADB", day, d1).size());
+        assertEquals(3, cache.getHits());
+        assertEquals(4, cache.getMisses());
+
+        // güncelleme hem eski hem yeni günü geçersiz kılar
+        assertTrue(fm.updateFlight(admin, createFlight("F001", "IST", "ESB", day.plusDays(1).plusHours(7))));
+        assertEquals(2, fm.searchAvailableFlights("IST", "ESB", day, d1).size());
+        List<Flight> nextDay = fm.searchAvailableFlights("IST", "ESB", day, d2);
+        assertEquals("F001", nextDay.get(0).getFlightNum());
+        assertEquals(6, cache.getMisses());
+
+        // tarihsiz arama da önbelleğe girer ve silmede düşer
+        assertEquals(4, fm.searchAvailableFlights("IST", "ESB", day).size());
+        assertTrue(fm.removeFlight(admin, "F003"));
+        assertEquals(3, fm.searchAvailableFlights("IST", "ESB", day).size());
+        assertEquals(8, cache.getMisses());
+    }
+
+    @Test
+    public void cityIndex_suggestsByPrefixAndFollowsCatalogChanges() {
+        FlightManager fm = new FlightManager();
+        Staff admin = adminStaff();
+        LocalDateTime day = LocalDateTime.of(2030, 6, 1, 10, 0);
+
+        fm.addFlight(admin, createFlight("F001", "Istanbul", "Izmir", day));
+        fm.addFlight(admin, createFlight("F002", "ISTANBUL", "Ankara", day.plusHours(1)));
+        fm.addFlight(admin, createFlight("F003", "Isparta", "Ankara", day.plusHours(2)));
+        CityIndex cities = fm.getCityIndex();
+
+        assertEquals(List.of("ISPARTA", "ISTANBUL", "IZMIR"), cities.suggest("i", 10));
+        assertEquals(List.of("ISPARTA", "ISTANBUL"), cities.suggest("IS", 10));
+        assertEquals(List.of("ISPARTA"), cities.suggest("is", 1));
+        assertEquals(3, cities.countWithPrefix("I"));
+        assertEquals(2, cities.getFlightCount("istanbul"));
+        assertTrue(cities.suggest("x", 5).isEmpty());
+
+        // son uçuşu silinen şehir öneriden düşer; güncelleme yeni şehri ekler
+        assertTrue(fm.removeFlight(admin, "F003"));
+        assertFalse(cities.contains("Isparta"));
+        assertEquals(1, cities.getFlightCount("Ankara"));
+        assertTrue(fm.updateFlight(admin, createFlight("F001", "Istanbul", "Antalya", day)));
+        assertFalse(cities.contains("Izmir"));
+        assertEquals(List.of("ANKARA", "ANTALYA"), cities.suggest("an", 10));
+        assertEquals(3, cities.size());
+    }
+
+    @Test
+    public void searchFlights_pagesInDepartureOrderWithStableCursor() {
+        FlightManager fm = new FlightManager();
+        Staff admin = adminStaff();
+        LocalDateTime day = LocalDateTime.of(2030, 7, 1, 0, 0);
+
+        for (int i = 0; i < 10; i++) {
+            // IST→ESB ve ADB→ESB dönüşümlü, saatte bir
+            String from = i % 2 == 0 ? "IST" : "ADB";
+            fm.addFlight(admin, createFlight(String.format("P%02d", i), from, "ESB", day.plusHours(i)));
+        }
+        fm.addFlight(admin, createFlight("N01", "IST", "ESB", day.plusDays(1)));
+
+        // filtresiz: 4 + 4 + 3
+        FlightPage p1 = fm.searchFlights(null, null, null, day, null, 4);
+        assertEquals(List.of("P00", "P01", "P02", "P03"), flightNums(p1.getFlights()));
+        assertTrue(p1.hasNext());
+
+        // sayfalar arasında eklenen/silinen uçuşlar sonraki sayfayı kaydırmaz
+        fm.addFlight(admin, createFlight("E01", "IST", "ESB", day.plusMinutes(30)));
+        assertTrue(fm.removeFlight(admin, "P04"));
+        FlightPage p2 = fm.searchFlights(null, null, null, day, p1.getNextCursor(), 4);
+        assertEquals(List.of("P05", "P06", "P07", "P08"), flightNums(p2.getFlights()));
+        FlightPage p3 = fm.searchFlights(null, null, null, day, p2.getNextCursor(), 4);
+        assertEquals(List.of("P09", "N01"), flightNums(p3.getFlights()));
+        assertFalse(p3.hasNext());
+
+        // kalkış şehri, sadece varış, rota + tarih ve now filtreleri
+        assertEquals(List.of("P01", "P03", "P05", "P07", "P09"),
+                flightNums(fm.searchFlights("adb", null, null, day, null, 10).getFlights()));
+        assertEquals(11, fm.searchFlights(null, "esb", null, day, null, 20).getFlights().size());
+        FlightPage routeDay = fm.searchFlights("IST", "ESB", day.toLocalDate(), day.plusHours(5), null, 2);
+        assertEquals(List.of("P06", "P08"), flightNums(routeDay.getFlights()));
+        assertFalse(routeDay.hasNext()); // tam dolan son sayfa boş bir sayfa daha istetmez
+        assertTrue(fm.searchFlights("ESB", "IST", null, day, null, 5).getFlights().isEmpty());
+    }
+
+    @Test
+    public void searchFlights_pagesRouteSearchFromCache() {
+        FlightManager fm = new FlightManager();
+        Staff admin = adminStaff();
+        LocalDateTime day = LocalDateTime.of(2030, 5, 1, 0, 0);
+        for (int i = 0; i < 5; i++) {
+            fm.addFlight(admin, createFlight(String.format("R%02d", i), "IST", "ESB", day.plusHours(i)));
+        }
+        FlightSearchCache cache = fm.getSearchCache();
+
+        FlightPage p1 = fm.searchFlights("IST", "ESB", null, day, null, 2);
+        assertEquals(List.of("R00", "R01"), flightNums(p1.getFlights()));
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        // sonraki sayfa ve aynı sorgunun tekrarı önbellekten gelir
+        FlightPage p2 = fm.searchFlights("ist", "esb", null, day, p1.getNextCursor(), 2);
+        assertEquals(List.of("R02", "R03"), flightNums(p2.getFlights()));
+        assertEquals(List.of("R00", "R01"), flightNums(fm.searchFlights("IST", "ESB", null, day, null, 2).getFlights()));
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        // rotaya eklenen uçuş kaydı geçersiz kılar; sonraki sayfa yeni uçuşu görür
+        fm.addFlight(admin, createFlight("R10", "IST", "ESB", day.plusHours(3).plusMinutes(30)));
+        FlightPage p3 = fm.searchFlights("IST", "ESB", null, day, p2.getNextCursor(), 2);
+        assertEquals(List.of("R10", "R04"), flightNums(p3.getFlights()));
+        assertFalse(p3.hasNext());
+        assertEquals(2, cache.getMisses());
+    }
+
+    private static List<String> flightNums(List<Flight> flights) {
+        List<String> nums = new ArrayList<>();
+        for (Flight f : flights) {
+            nums.add(f.getFlightNum());
+        }
+        return nums;
+    }
+
+}
@@ -0,0 +1,498 @@
+package airlinesystem.unittest;
+
+import airlinesystem.concurrent.DurabilityMode;
+import airlinesystem.concurrent.GroupCommitWriter;
+import airlinesystem.model.Flight;
+import airlinesystem.model.Passenger;
+import airlinesystem.model.Plane;
+import airlinesystem.model.Reservation;
+import airlinesystem.model.Route;
+import airlinesystem.model.Staff;
+import airlinesystem.model.Ticket;
+import airlinesystem.repository.PassengerFileRepository;
+import airlinesystem.repository.ReservationFileRepository;
+import airlinesystem.service.BasicPriceCalculator;
+import airlinesystem.service.FlightManager;
+import airlinesystem.service.ReservationManager;
+import airlinesystem.service.SeatManager;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReservationJournalTest {
+
+    @Test
+    void bookingsAreJournaledAndRecoveredAfterRestart() throws Exception {
+        Path dir = Files.createTempDirectory("journal");
+        try {
+            Path file = dir.resolve("reservations.txt");
+            ReservationFileRepository repo = new ReservationFileRepository(file.toString());
+            FlightManager fm = new FlightManager();
+            Flight flight = new Flight("F001", new Route("IST", "ESB"), new Plane("P1", "A321", 10, 4),
+                    LocalDate.now().plusDays(1), LocalTime.of(12, 0), 60, 1000.0);
+            fm.addFlight(new Staff("S001", "Admin", "User", "admin@gmail.com", "adminuser", "123456", "ADMIN"), flight);
+
+            SeatManager sm = new SeatManager();
+            sm.createInventory(flight, 2, 1.5);
+            ReservationManager rm = new ReservationManager(sm, new BasicPriceCalculator(1.5, 10.0), repo);
+
+            List<String> codes = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                Passenger p = new Passenger("J" + i, "Journal", "User" + i, "j" + i + "@example.com", "TR" + i);
+                codes.add(rm.makeReservation(flight, p, (i + 1) + "C", null).getReservation().getReservationCode());
+            }
+            rm.cancelReservation(codes.get(1));
+            for (String code : codes) {
+                rm.whenDurable(code).get(5, TimeUnit.SECONDS);
+            }
+
+            // rezervasyonlar snapshot'ı yeniden yazmaz, journal'a birer satır ekler
+            assertFalse(Files.exists(file));
+            List<String> journal = Files.readAllLines(repo.getJournalPath());
+            assertEquals(4, journal.size());
+            assertEquals("C;" + codes.get(1), journal.get(3));
+
+            // çökme anında yarım kalmış son satır
+            Files.writeString(repo.getJournalPath(), "B;F001-J9-9C;T-F001", StandardOpenOption.APPEND);
+
+            ReservationManager recovered = restart(repo, fm, flight);
+            assertEquals(List.of(codes.get(0), codes.get(2)), codesOf(recovered.getReservations()));
+            assertEquals(2, recovered.getTickets().size());
+            assertEquals(4, repo.getLastReplayedRecords());
+            // açılıştan sonra journal arka planda binary snapshot'a katlanır
+            awaitCompaction(repo);
+            assertTrue(Files.exists(repo.getSnapshotPath()));
+            assertEquals(List.of(codes.get(0), codes.get(2)), codesOf(restart(repo, fm, flight).getReservations()));
+            assertEquals(0, repo.getLastReplayedRecords());
+
+            // snapshot taşındıktan sonra, journal silinmeden çökülmüş gibi: tekrar oynatmak sonucu değiştirmez
+            Files.write(repo.getJournalPath(), journal);
+            ReservationManager replayedTwice = restart(repo, fm, flight);
+            assertEquals(List.of(codes.get(0), codes.get(2)), codesOf(replayedTwice.getReservations()));
+            awaitCompaction(repo);
+
+            // yeni kayıtlar yine journal'a gider; compact() onları snapshot'a katlar
+            Passenger late = new Passenger("J5", "Journal", "User5", "j5@example.com", "TR5");
+            String lateCode = replayedTwice.makeReservation(flight, late, "5C", null).getReservation().getReservationCode();
+            replayedTwice.whenDurable(lateCode).get(5, TimeUnit.SECONDS);
+            assertEquals(1, Files.readAllLines(repo.getJournalPath()).size());
+            replayedTwice.compact();
+            assertFalse(Files.exists(repo.getJournalPath()));
+            assertEquals(3, restart(repo, fm, flight).getReservations().size());
+        } finally {
+            try (Stream<Path> paths = Files.walk(dir)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+            }
+        }
+    }
+
+    @Test
+    void appendAfterTornTailSurvivesSecondRestart() throws Exception {
+        Path dir = Files.createTempDirectory("journal-torn");
+        try {
+            // writer seviyesinde: yarım satır yeni kayda yapışmaz
+            Path raw = dir.resolve("raw.journal");
+            Files.writeString(raw, "B;yarim");
+            GroupCommitWriter writer = new GroupCommitWriter(raw, DurabilityMode.SYNC_EVERY_COMMIT, 0, "test-torn");
+            try {
+                writer.append("C;R1\n").get(5, TimeUnit.SECONDS);
+            } finally {
+                writer.close();
+            }
+            assertEquals(List.of("B;yarim", "C;R1"), Files.readAllLines(raw));
+
+            Path file = dir.resolve("reservations.txt");
+            ReservationFileRepository repo = new ReservationFileRepository(file.toString());
+            FlightManager fm = new FlightManager();
+            Flight flight = new Flight("F002", new Route("IST", "ADB"), new Plane("P2", "A320", 10, 4),
+                    LocalDate.now().plusDays(1), LocalTime.of(9, 0), 70, 900.0);
+            fm.addFlight(new Staff("S001", "Admin", "User", "admin@gmail.com", "adminuser", "123456", "ADMIN"), flight);
+            SeatManager sm = new SeatManager();
+            sm.createInventory(flight, 2, 1.5);
+            ReservationManager rm = new ReservationManager(sm, new BasicPriceCalculator(1.5, 10.0), repo);
+            Passenger first = new Passenger("T1", "Torn", "User1", "t1@example.com", "TR1");
+            String firstCode = rm.makeReservation(flight, first, "1C", null).getReservation().getReservationCode();
+            rm.whenDurable(firstCode).get(5, TimeUnit.SECONDS);
+            rm.shutdown();
+
+            // çökme: journal yarım satırla bitiyor
+            repo = new ReservationFileRepository(file.toString());
+            Files.writeString(repo.getJournalPath(), "B;F002-T9-9C;T-F0", StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+
+            ReservationManager recovered = restart(repo, fm, flight);
+            assertEquals(List.of(firstCode), codesOf(recovered.getReservations()));
+            Passenger second = new Passenger("T2", "Torn", "User2", "t2@example.com", "TR2");
+            String secondCode = recovered.makeReservation(flight, second, "2C", null).getReservation().getReservationCode();
+            recovered.whenDurable(secondCode).get(5, TimeUnit.SECONDS);
+            recovered.shutdown();
+
+            repo = new ReservationFileRepository(file.toString());
+            ReservationManager again = restart(repo, fm, flight);
+            assertEquals(List.of(firstCode, secondCode), codesOf(again.getReservations()));
+            again.shutdown();
+        } finally {
+            try (Stream<Path> paths = Files.walk(dir)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+            }
+        }
+    }
+
+    @Test
+    void legacyTextFileIsImportedIntoChecksummedBinarySnapshot() throws Exception {
+        Path dir = Files.createTempDirectory("snapshot");
+        try {
+            Path file = dir.resolve("reservations.txt");
+            FlightManager fm = new FlightManager();
+            Flight flight = new Flight("F001", new Route("IST", "ESB"), new Plane("P1", "A321", 10, 4),
+                    LocalDate.now().plusDays(1), LocalTime.of(12, 0), 60, 1000.0);
+            fm.addFlight(new Staff("S001", "Admin", "User", "admin@gmail.com", "adminuser", "123456", "ADMIN"), flight);
+            Files.write(file, List.of(
+                    "F001-L1-1A;T-F001-L1-1A;F001;L1;Legacy One;l1@example.com;TR1;1A;1500.0;15.0;0.0;true;2024-05-01T10:00",
+                    "F001-L2-3B;T-F001-L2-3B;F001;L2;Legacy Two;l2@example.com;TR2;3B;1000.0;15.0;20.0;true;2024-05-01T10:05",
+                    "F001-L3-4C;T-F001-L3-4C;F001;L3;Legacy Three;l3@example.com;TR3;4C;1000.0;15.0;0.0;false;2024-05-01T10:10"));
+
+            ReservationFileRepository repo = new ReservationFileRepository(file.toString());
+            ReservationManager imported = restart(repo, fm, flight);
+            assertEquals(List.of("F001-L1-1A", "F001-L2-3B"), codesOf(imported.getReservations()));
+
+            // metin dosyası arka planda binary snapshot'a taşınır
+            long deadline = System.currentTimeMillis() + 5000;
+            while (Files.exists(file) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertFalse(Files.exists(file));
+            ReservationManager reloaded = restart(repo, fm, flight);
+            assertEquals(List.of("F001-L1-1A", "F001-L2-3B"), codesOf(reloaded.getReservations()));
+            Ticket withBaggage = reloaded.findTicketByReservationCode("F001-L2-3B");
+            assertEquals(20.0, withBaggage.getBaggage().getWeight());
+            assertEquals("2024-05-01T10:05", withBaggage.getReservation().getReservationDate().toString());
+
+            // snapshot'ta 1A zaten L1'in; kuyruktaki başka bir kodun 1A kaydı ve iptali L1'in koltuğunu boşaltmaz
+            Files.write(repo.getJournalPath(), List.of(
+                    "B;F001-L9-1A;T-F001-L9-1A;F001;L9;Legacy Nine;l9@example.com;TR9;1A;1500.0;15.0;0.0;true;2024-05-01T09:00",
+                    "C;F001-L9-1A"));
+            ReservationManager afterTail = restart(repo, fm, flight);
+            assertEquals(List.of("F001-L1-1A", "F001-L2-3B"), codesOf(afterTail.getReservations()));
+            awaitCompaction(repo);
+
+            // bozuk snapshot sessizce yarım yüklenmez: koltuk bölümü açılışta, kayıtlar ilk okumada fark edilir
+            byte[] original = Files.readAllBytes(repo.getSnapshotPath());
+            byte[] bytes = original.clone();
+            bytes[14] ^= 0x5A;
+            Files.write(repo.getSnapshotPath(), bytes);
+            assertThrows(IOException.class, () -> restart(repo, fm, flight));
+
+            bytes = original.clone();
+            bytes[bytes.length - 40] ^= 0x5A; // son kaydın createdAt alanı
+            Files.write(repo.getSnapshotPath(), bytes);
+            IllegalStateException unreadable = assertThrows(IllegalStateException.class, () -> restart(repo, fm, flight));
+            assertTrue(unreadable.getCause() instanceof IOException);
+        } finally {
+            try (Stream<Path> paths = Files.walk(dir)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+            }
+        }
+    }
+
+    @Test
+    void startupRestoresSnapshotSeatsAndReplaysOnlyTheTail() throws Exception {
+        Path dir = Files.createTempDirectory("lazy-load");
+        try {
+            Path file = dir.resolve("reservations.txt");
+            ReservationFileRepository repo = new ReservationFileRepository(file.toString());
+            FlightManager fm = new FlightManager();
+            Flight flight = new Flight("F003", new Route("IST", "AYT"), new Plane("P3", "A321", 10, 4),
+                    LocalDate.now().plusDays(1), LocalTime.of(15, 0), 80, 1100.0);
+            fm.addFlight(new Staff("S001", "Admin", "User", "admin@gmail.com", "adminuser", "123456", "ADMIN"), flight);
+            SeatManager sm = new SeatManager();
+            sm.createInventory(flight, 2, 1.5);
+            ReservationManager rm = new ReservationManager(sm, new BasicPriceCalculator(1.5, 10.0), repo);
+
+            List<String> codes = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                Passenger p = new Passenger("Z" + i, "Lazy", "User" + i, "z" + i + "@example.com", "TR" + i);
+                codes.add(rm.makeReservation(flight, p, (i + 1) + "A", null).getReservation().getReservationCode());
+            }
+            rm.compact();
+
+            // kuyruk: snapshot'taki bir kodun iptali ve yeni bir rezervasyon
+            rm.cancelReservation(codes.get(1));
+            Passenger late = new Passenger("Z9", "Lazy", "User9", "z9@example.com", "TR9");
+            String lateCode = rm.makeReservation(flight, late, "9D", null).getReservation().getReservationCode();
+            rm.whenDurable(codes.get(1)).get(5, TimeUnit.SECONDS);
+            rm.whenDurable(lateCode).get(5, TimeUnit.SECONDS);
+
+            // snapshot kayıtlarını okumayı geciktiren yükleme: koltuklar ondan önce hazır olmalı
+            class DeferredLoad extends ReservationManager {
+                List<Ticket> recent;
+                Callable<List<Ticket>> older;
+
+                DeferredLoad(SeatManager seatManager) {
+                    super(seatManager, new BasicPriceCalculator(1.5, 10.0), repo);
+                }
+
+                @Override
+                public void loadData(List<Ticket> recent, Callable<List<Ticket>> older) {
+                    this.recent = recent;
+                    this.older = older;
+                }
+
+                @Override
+                public void compactInBackground() {
+                }
+
+                void finish() {
+                    super.loadData(recent, older);
+                }
+            }
+            SeatManager restored = new SeatManager();
+            restored.createInventory(flight, 2, 1.5);
+            DeferredLoad deferred = new DeferredLoad(restored);
+            repo.loadAll(deferred, fm, new PassengerFileRepository(dir.resolve("passengers.txt").toString()), restored);
+
+            assertEquals(2, repo.getLastReplayedRecords());
+            assertEquals(List.of(lateCode), codesOfTickets(deferred.recent));
+            assertEquals(5, restored.getInventory(flight).getReservedSeatCount());
+            assertFalse(restored.resolveSeatNumber(flight, "2A").isReserved());
+            assertTrue(restored.resolveSeatNumber(flight, "5A").isReserved());
+            assertTrue(restored.resolveSeatNumber(flight, "9D").isReserved());
+
+            // kayıtlar okununca kuyruktakinin önüne, iptal edilen hariç
+            deferred.finish();
+            assertEquals(List.of(codes.get(0), codes.get(2), codes.get(3), codes.get(4), lateCode),
+                    codesOf(deferred.getReservations()));
+            assertNotNull(deferred.findTicketByReservationCode(codes.get(4)));
+            assertEquals(5, deferred.getActiveBookingCount(flight));
+            assertEquals(List.of(codes.get(3)), codesOf(deferred.getReservationsOf("Z3")));
+        } finally {
+            try (Stream<Path> paths = Files.walk(dir)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+            }
+        }
+    }
+
+    @Test
+    void cancelsAreTombstonedAndCompactedInBackground() throws Exception {
+        Path dir = Files.createTempDirectory("compaction");
+        try {
+            Path file = dir.resolve("reservations.txt");
+            ReservationFileRepository repo = new ReservationFileRepository(file.toString());
+            FlightManager fm = new FlightManager();
+            Flight flight = new Flight("F001", new Route("IST", "ESB"), new Plane("P1", "A380", 250, 8),
+                    LocalDate.now().plusDays(1), LocalTime.of(12, 0), 60, 1000.0);
+            fm.addFlight(new Staff("S001", "Admin", "User", "admin@gmail.com", "adminuser", "123456", "ADMIN"), flight);
+            SeatManager sm = new SeatManager();
+            sm.createInventory(flight, 2, 1.5);
+            ReservationManager rm = new ReservationManager(sm, new BasicPriceCalculator(1.5, 10.0), repo);
+
+            // 4 thread rezervasyon yapıp her ikincisini iptal eder: 2400 journal kaydı,
+            // compaction eşiği (1000) rezervasyonlar sürerken aşılır
+            int threads = 4;
+            int perThread = 400;
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int id = t;
+                Passenger p = new Passenger("K" + t, "Compact", "User" + t, "k" + t + "@example.com", "TR" + t);
+                Thread w = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = 0; i < perThread; i++) {
+                        int n = id * perThread + i;
+                        String seatNum = (n / 8 + 1) + String.valueOf((char) ('A' + n % 8));
+                        String code = rm.makeReservation(flight, p, seatNum, null).getReservation().getReservationCode();
+                        if (i % 2 == 0) {
+                            rm.cancelReservation(code);
+                        }
+                    }
+                });
+                workers.add(w);
+                w.start();
+            }
+            start.countDown();
+            for (Thread w : workers) {
+                w.join();
+            }
+            assertEquals(threads * perThread / 2, rm.getReservations().size());
+
+            // snapshot'ı arka plandaki compactor yazdı ve iptallerin bir kısmını bellekten temizledi
+            long deadline = System.currentTimeMillis() + 5000;
+            while (!Files.exists(repo.getSnapshotPath()) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertTrue(Files.exists(repo.getSnapshotPath()));
+            assertTrue(rm.getTombstoneCount() < threads * perThread / 2);
+
+            rm.compact();
+            assertEquals(0, rm.getTombstoneCount());
+            assertEquals(threads * perThread / 2, rm.getReservations().size());
+
+            List<String> expected = codesOf(rm.getReservations());
+            rm.shutdown();
+            List<String> recovered = codesOf(restart(new ReservationFileRepository(file.toString()), fm, flight).getReservations());
+            assertEquals(new HashSet<>(expected), new HashSet<>(recovered));
+        } finally {
+            try (Stream<Path> paths = Files.walk(dir)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+            }
+        }
+    }
+
+    @Test
+    void concurrentAppendsAreGroupCommitted() throws Exception {
+        Path file = Files.createTempFile("group-commit", ".journal");
+        Path rotated = Path.of(file + ".old");
+        GroupCommitWriter writer = new GroupCommitWriter(file, DurabilityMode.SYNC_EVERY_COMMIT, 0, "test-writer");
+        try {
+            int threads = 8;
+            int perThread = 250;
+            List<CompletableFuture<Void>> futures = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int id = t;
+                Thread w = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = 0; i < perThread; i++) {
+                        futures.add(writer.append("R;" + id + ";" + i + "\n"));
+                    }
+                });
+                workers.add(w);
+                w.start();
+            }
+            start.countDown();
+            for (Thread w : workers) {
+                w.join();
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+            // her kayıt yazıldı ve her thread'in kayıtları kendi sırasıyla
+            List<String> lines = Files.readAllLines(file);
+            assertEquals(threads * perThread, lines.size());
+            int[] next = new int[threads];
+            for (String line : lines) {
+                String[] parts = line.split(";");
+                int id = Integer.parseInt(parts[1]);
+                assertEquals(next[id]++, Integer.parseInt(parts[2]));
+            }
+            // fsync kayıt başına değil grup başına
+            assertTrue(writer.getSyncCount() <= writer.getBatchCount());
+            assertTrue(writer.getBatchCount() < threads * perThread);
+
+            // rotate bekleyenleri yazıp dosyayı kenara taşır; sonraki kayıt yeni dosyaya gider
+            writer.append("X\n");
+            writer.rotate(rotated).get(5, TimeUnit.SECONDS);
+            assertFalse(Files.exists(file));
+            assertEquals(threads * perThread + 1, Files.readAllLines(rotated).size());
+            writer.append("Y\n").get(5, TimeUnit.SECONDS);
+            assertEquals(List.of("Y"), Files.readAllLines(file));
+            // kenardaki dosya hâlâ duruyorsa üzerine yazılmaz, sonuna eklenir
+            writer.rotate(rotated).get(5, TimeUnit.SECONDS);
+            List<String> merged = Files.readAllLines(rotated);
+            assertEquals(threads * perThread + 2, merged.size());
+            assertEquals("Y", merged.get(merged.size() - 1));
+
+            writer.close();
+            assertThrows(IllegalStateException.class, () -> writer.append("Z\n"));
+        } finally {
+            writer.close();
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(rotated);
+        }
+    }
+
+    @Test
+    void bufferedAndIntervalModesCompleteWithoutPerRecordSync() throws Exception {
+        Path file = Files.createTempFile("group-commit", ".journal");
+        GroupCommitWriter buffered = new GroupCommitWriter(file, DurabilityMode.OS_BUFFERED, 0, "test-buffered");
+        GroupCommitWriter interval = new GroupCommitWriter(file, DurabilityMode.SYNC_INTERVAL, 20, "test-interval");
+        try {
+            for (int i = 0; i < 50; i++) {
+                buffered.append("B" + i + "\n").get(5, TimeUnit.SECONDS);
+            }
+            assertEquals(0, buffered.getSyncCount());
+            buffered.flush().get(5, TimeUnit.SECONDS);
+            assertEquals(1, buffered.getSyncCount());
+
+            // aralık içinde gelen kayıtlar tek fsync'i paylaşır
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                futures.add(interval.append("I" + i + "\n"));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+            assertTrue(interval.getSyncCount() >= 1 && interval.getSyncCount() < 50);
+            assertEquals(100, Files.readAllLines(file).size());
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> new GroupCommitWriter(file, DurabilityMode.SYNC_INTERVAL, 0, "bad"));
+        } finally {
+            buffered.close();
+            interval.close();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private ReservationManager restart(ReservationFileRepository repo, FlightManager fm, Flight flight) throws IOException {
+        SeatManager sm = new SeatManager();
+        sm.createInventory(flight, 2, 1.5);
+        ReservationManager rm = new ReservationManager(sm, new BasicPriceCalculator(1.5, 10.0), repo);
+        repo.loadAll(rm, fm, new PassengerFileRepository(repo.getJournalPath().resolveSibling("passengers.txt").toString()), sm);
+        for (Reservation r : rm.getReservations()) {
+            assertTrue(sm.resolveSeatNumber(flight, r.getSeat().getSeatNum()).isReserved());
+        }
+        // kayıtlardan kurulan doluluk rezervasyon sayısıyla birebir
+        assertEquals(rm.getReservations().size(), sm.getInventory(flight).getReservedSeatCount());
+        return rm;
+    }
+
+    private static void awaitCompaction(ReservationFileRepository repo) throws InterruptedException {
+        Path rotated = Path.of(repo.getJournalPath() + ".old");
+        long deadline = System.currentTimeMillis() + 5000;
+        while ((Files.exists(repo.getJournalPath()) || Files.exists(rotated) || !Files.exists(repo.getSnapshotPath()))
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(Files.exists(repo.getJournalPath()));
+        assertFalse(Files.exists(rotated));
+    }
+
+    private static List<String> codesOfTickets(List<Ticket> tickets) {
+        List<String> codes = new ArrayList<>();
+        for (Ticket t : tickets) {
+            codes.add(t.getReservation().getReservationCode());
+        }
+        return codes;
+    }
+
+    private static List<String> codesOf(List<Reservation> reservations) {
+        List<String> codes = new ArrayList<>();
+        for (Reservation r : reservations) {
+            codes.add(r.getReservationCode());
+        }
+        return codes;
+    }
+}
@@ -0,0 +1,318 @@
+package airlinesystem.unittest;
+
+import airlinesystem.model.Flight;
+import airlinesystem.model.Passenger;
+import airlinesystem.model.Plane;
+import airlinesystem.model.Reservation;
+import airlinesystem.model.Route;
+import airlinesystem.model.SeatClass;
+import airlinesystem.model.SeatHold;
+import airlinesystem.model.Ticket;
+import airlinesystem.repository.ReservationFileRepository;
+import airlinesystem.service.BasicPriceCalculator;
+import airlinesystem.service.ReservationManager;
+import airlinesystem.service.SeatManager;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReservationManagerConcurrencyTest {
+
+    private static final int FLIGHTS = 200;
+    private static final int ROWS = 3;
+    private static final int COLS = 4;
+
+    @Test
+    void concurrentBookings_neverSellTheSameSeatTwice() throws Exception {
+        // snapshot, journal ve döndürülmüş journal aynı klasörde oluşur; hepsi birlikte silinir
+        Path dir = Files.createTempDirectory("reservations");
+        Path file = dir.resolve("reservations.txt");
+        try {
+            SeatManager seatManager = new SeatManager();
+            ReservationManager rm = new ReservationManager(
+                    seatManager,
+                    new BasicPriceCalculator(1.5, 10.0),
+                    new ReservationFileRepository(file.toString())
+            );
+
+            List<Flight> flights = new ArrayList<>();
+            for (int i = 0; i < FLIGHTS; i++) {
+                Plane plane = new Plane("P" + i, "B737", ROWS, COLS);
+                Flight flight = new Flight(String.format("F%03d", i), new Route("IST", "ESB"), plane,
+                        LocalDate.now().plusDays(1), LocalTime.of(12, 0), 60, 1000.0);
+                seatManager.createInventory(flight, 1, 1.5);
+                flights.add(flight);
+            }
+
+            List<String> seatNums = new ArrayList<>();
+            for (int r = 1; r <= ROWS; r++) {
+                for (int c = 0; c < COLS; c++) {
+                    seatNums.add(r + String.valueOf((char) ('A' + c)));
+                }
+            }
+
+            int threads = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+            Map<String, String> soldTo = new ConcurrentHashMap<>();
+            AtomicInteger doubleSales = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> workers = new ArrayList<>();
+
+            for (int t = 0; t < threads; t++) {
+                Passenger passenger = new Passenger("P" + t, "Test", "User" + t,
+                        "user" + t + "@example.com", "TR" + t);
+                Random random = new Random(t);
+                Thread worker = new Thread(() -> {
+                    List<Flight> order = new ArrayList<>(flights);
+                    Collections.shuffle(order, random);
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (Flight f : order) {
+                        for (String seatNum : seatNums) {
+                            try {
+                                rm.makeReservation(f, passenger, seatNum, null);
+                                String key = f.getFlightNum() + "/" + seatNum;
+                                if (soldTo.putIfAbsent(key, passenger.getPassengerID()) != null) {
+                                    doubleSales.incrementAndGet();
+                                }
+                            } catch (IllegalStateException alreadyTaken) {
+                                // başka bir thread önce aldı, normal
+                            }
+                        }
+                    }
+                });
+                workers.add(worker);
+                worker.start();
+            }
+
+            start.countDown();
+            for (Thread w : workers) {
+                w.join();
+            }
+
+            int totalSeats = FLIGHTS * ROWS * COLS;
+            assertEquals(0, doubleSales.get());
+            assertEquals(totalSeats, soldTo.size());
+
+            List<Reservation> reservations = rm.getReservations();
+            assertEquals(totalSeats, reservations.size());
+
+            Set<String> distinctSeats = new HashSet<>();
+            for (Reservation r : reservations) {
+                distinctSeats.add(r.getFlight().getFlightNum() + "/" + r.getSeat().getSeatNum());
+            }
+            assertEquals(totalSeats, distinctSeats.size());
+
+            for (Flight f : flights) {
+                assertEquals(0, seatManager.getAvailableSeatCount(f));
+            }
+
+            rm.shutdown();
+        } finally {
+            deleteTree(dir);
+        }
+    }
+
+    @Test
+    void seatHold_blocksOtherBuyersAndExpiresOnItsOwn() throws Exception {
+        Path dir = Files.createTempDirectory("reservations");
+        Path file = dir.resolve("reservations.txt");
+        try {
+            SeatManager seatManager = new SeatManager();
+            ReservationManager rm = new ReservationManager(
+                    seatManager,
+                    new BasicPriceCalculator(1.5, 10.0),
+                    new ReservationFileRepository(file.toString())
+            );
+            Flight flight = new Flight("F001", new Route("IST", "ESB"), new Plane("P1", "B737", ROWS, COLS),
+                    LocalDate.now().plusDays(1), LocalTime.of(12, 0), 60, 1000.0);
+            seatManager.createInventory(flight, 1, 1.5);
+            Passenger alice = new Passenger("P1", "Alice", "A", "alice@example.com", "TR1");
+            Passenger bob = new Passenger("P2", "Bob", "B", "bob@example.com", "TR2");
+
+            // Tutulan koltuk başkasına satılamaz, hold kesinleşince dolu kalır
+            SeatHold hold = rm.holdSeat(flight, "1A", Duration.ofMinutes(5));
+            assertTrue(seatManager.resolveSeatNumber(flight, "1A").isHeld());
+            assertThrows(IllegalStateException.class, () -> rm.makeReservation(flight, bob, "1A", null));
+            assertThrows(IllegalStateException.class, () -> rm.holdSeat(flight, "1A", Duration.ofMinutes(5)));
+
+            assertNotNull(rm.makeReservation(hold, alice, null));
+            assertEquals(SeatHold.State.CONVERTED, hold.getState());
+            assertFalse(seatManager.resolveSeatNumber(flight, "1A").isHeld());
+            assertTrue(seatManager.resolveSeatNumber(flight, "1A").isReserved());
+            assertThrows(IllegalStateException.class, () -> rm.makeReservation(hold, alice, null));
+
+            // Çok sayıda kısa hold tek timer thread'i ile kendiliğinden düşer
+            int available = seatManager.getAvailableSeatCount(flight);
+            List<SeatHold> shortHolds = new ArrayList<>();
+            for (int r = 2; r <= ROWS; r++) {
+                for (int c = 0; c < COLS; c++) {
+                    shortHolds.add(rm.holdSeat(flight, r + String.valueOf((char) ('A' + c)), Duration.ofMillis(50)));
+                }
+            }
+            assertEquals(available - shortHolds.size(), seatManager.getAvailableSeatCount(flight));
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (rm.getActiveHoldCount() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertEquals(0, rm.getActiveHoldCount());
+            assertEquals(available, seatManager.getAvailableSeatCount(flight));
+            for (SeatHold h : shortHolds) {
+                assertEquals(SeatHold.State.EXPIRED, h.getState());
+            }
+            assertThrows(IllegalStateException.class, () -> rm.makeReservation(shortHolds.get(0), bob, null));
+
+            rm.shutdown();
+        } finally {
+            deleteTree(dir);
+        }
+    }
+
+    @Test
+    void groupReservation_isAllOrNothingWithSingleWrite() throws Exception {
+        Path dir = Files.createTempDirectory("reservations");
+        Path file = dir.resolve("reservations.txt");
+        try {
+            AtomicInteger writes = new AtomicInteger();
+            SeatManager seatManager = new SeatManager();
+            ReservationManager rm = new ReservationManager(
+                    seatManager,
+                    new BasicPriceCalculator(1.5, 10.0),
+                    new ReservationFileRepository(file.toString()) {
+                        @Override
+                        public CompletableFuture<Void> appendBookings(List<Ticket> tickets) {
+                            writes.incrementAndGet();
+                            return super.appendBookings(tickets);
+                        }
+                    }
+            );
+            Flight flight = new Flight("F001", new Route("IST", "ESB"), new Plane("P1", "A321", 30, 6),
+                    LocalDate.now().plusDays(1), LocalTime.of(12, 0), 60, 1000.0);
+            seatManager.createInventory(flight, 2, 1.5);
+
+            List<Passenger> group = new ArrayList<>();
+            for (int i = 0; i < 60; i++) {
+                group.add(new Passenger("G" + i, "Group", "Member" + i, "g" + i + "@example.com", "TR" + i));
+            }
+
+            List<Ticket> issued = rm.makeGroupReservation(flight, group, SeatClass.ECONOMY, null);
+            assertEquals(60, issued.size());
+            assertEquals(1, writes.get());
+            assertEquals(180 - 60, seatManager.getAvailableSeatCount(flight));
+            assertEquals(60, rm.getActiveBookingCount(flight));
+            assertEquals(60, rm.getActiveBookingCount(flight, SeatClass.ECONOMY));
+            assertEquals(0, rm.getActiveBookingCount(flight, SeatClass.BUSINESS));
+
+            // 2 koltuk istenen gruptan biri dolu: hiçbir koltuk alınmamalı, dosyaya yazılmamalı
+            String taken = issued.get(0).getReservation().getSeat().getSeatNum();
+            assertThrows(IllegalStateException.class, () -> rm.makeGroupReservation(flight,
+                    group.subList(0, 2), List.of("1A", taken), null));
+            assertFalse(seatManager.resolveSeatNumber(flight, "1A").isReserved());
+            assertEquals(1, writes.get());
+            assertEquals(60, rm.getReservations().size());
+            assertEquals(60, rm.getActiveBookingCount(flight));
+
+            // Business'ta 12 koltuk var; 13 kişilik grup sığmaz
+            List<Passenger> tooMany = new ArrayList<>(group.subList(0, 13));
+            assertThrows(IllegalStateException.class,
+                    () -> rm.makeGroupReservation(flight, tooMany, SeatClass.BUSINESS, null));
+            assertEquals(180 - 60, seatManager.getAvailableSeatCount(flight));
+
+            rm.shutdown();
+        } finally {
+            deleteTree(dir);
+        }
+    }
+
+    @Test
+    void reservationCodeIndex_findsCancelsAndKeepsBookingOrder() throws Exception {
+        Path dir = Files.createTempDirectory("reservations");
+        Path file = dir.resolve("reservations.txt");
+        try {
+            SeatManager seatManager = new SeatManager();
+            ReservationManager rm = new ReservationManager(
+                    seatManager,
+                    new BasicPriceCalculator(1.5, 10.0),
+                    new ReservationFileRepository(file.toString())
+            );
+            Flight flight = new Flight("F001", new Route("IST", "ESB"), new Plane("P1", "A321", 30, 6),
+                    LocalDate.now().plusDays(1), LocalTime.of(12, 0), 60, 1000.0);
+            seatManager.createInventory(flight, 2, 1.5);
+
+            List<String> codes = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                Passenger p = new Passenger("C" + i, "Code", "User" + i, "c" + i + "@example.com", "TR" + i);
+                codes.add(rm.makeReservation(flight, p, (i + 1) + "A", null).getReservation().getReservationCode());
+            }
+
+            String middle = codes.get(2);
+            assertSame(rm.findReservationWithCode(middle), rm.findTicketByReservationCode(middle).getReservation());
+            assertNull(rm.findReservationWithCode("NO-SUCH-CODE"));
+            assertNull(rm.findTicketByReservationCode(null));
+
+            assertEquals(5, rm.getActiveBookingCount(flight));
+            rm.cancelReservation(middle);
+            assertEquals(4, rm.getActiveBookingCount(flight));
+            assertNull(rm.findReservationWithCode(middle));
+            assertNull(rm.findTicketByReservationCode(middle));
+            assertFalse(seatManager.resolveSeatNumber(flight, "3A").isReserved());
+            assertThrows(IllegalArgumentException.class, () -> rm.cancelReservation(middle));
+
+            // listeler eklenme sırasını korur
+            List<String> remaining = new ArrayList<>();
+            for (Reservation r : rm.getReservations()) {
+                remaining.add(r.getReservationCode());
+            }
+            assertEquals(List.of(codes.get(0), codes.get(1), codes.get(3), codes.get(4)), remaining);
+            assertEquals(codes.get(4), rm.getTickets().get(3).getReservation().getReservationCode());
+
+            // yolcu indeksi: rezervasyon ve iptal ile güncellenir, boşalınca yolcu düşer
+            Passenger frequent = new Passenger("C1", "Code", "User1", "c1@example.com", "TR1");
+            String second = rm.makeReservation(flight, frequent, "10B", null).getReservation().getReservationCode();
+            List<Reservation> own = rm.getReservationsOf("C1");
+            assertEquals(2, own.size());
+            assertEquals(codes.get(1), own.get(0).getReservationCode());
+            assertEquals(second, own.get(1).getReservationCode());
+            assertTrue(rm.getReservationsOf("C2").isEmpty());
+            assertEquals(1, rm.getReservationsOf("C3").size());
+
+            rm.cancelReservation(codes.get(1));
+            rm.cancelReservation(second);
+            assertTrue(rm.getReservationsOf("C1").isEmpty());
+            assertTrue(rm.getReservationsOf(null).isEmpty());
+
+            rm.shutdown();
+        } finally {
+            deleteTree(dir);
+        }
+    }
+
+    private static void deleteTree(Path dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+}
@@ -1,45 +1,231 @@
-package airlinesystem.unittest;
-
-import airlinesystem.model.Plane;
-import airlinesystem.model.Seat;
-import airlinesystem.service.SeatManager;
-import org.junit.Test;
-
-import static org.junit.Assert.*;
-
-public class SeatManagerTest {
-
-    @Test
-    public void emptySeatsCount_decreasesAfterReservation() {
-        Plane plane = new Plane("P1", "B737", 5, 4); // 20 koltuk
-        SeatManager seatManager = new SeatManager();
-
-        seatManager.createSeats(plane, 2, 1000.0, 1.5);
-
-        int emptyBefore = seatManager.getAvailableSeatCount(plane);
-
-        // Bir koltuk rezerve et
-        Seat seat = seatManager.resolveSeatNumber(plane, "3A");
-        assertNotNull(seat);
-        assertFalse(seat.isReserved());
-
-        seat.makeReservation();
-
-        int emptyAfter = seatManager.getAvailableSeatCount(plane);
-
-        assertEquals(emptyBefore - 1, emptyAfter);
-    }
-
-    @Test
-    public void reserveSeat_throwsExceptionForInvalidSeat() {
-        Plane plane = new Plane("P1", "B737", 5, 4);
-        SeatManager seatManager = new SeatManager();
-        seatManager.createSeats(plane, 2, 1000.0, 1.5);
-
-        assertThrows(IllegalArgumentException.class, () -> {
-            seatManager.reserveSeat(plane, "99Z");
-        });
-    }
-    
-
-}
+package airlinesystem.unittest;
+
+import airlinesystem.model.Flight;
+import airlinesystem.model.Plane;
+import airlinesystem.model.Route;
+import airlinesystem.model.Seat;
+import airlinesystem.model.SeatClass;
+import airlinesystem.model.SeatInventory;
+import airlinesystem.model.SeatLabels;
+import airlinesystem.model.SeatOccupancy;
+import airlinesystem.service.SeatManager;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SeatManagerTest {
+
+    @Test
+    public void emptySeatsCount_decreasesAfterReservation() {
+        Plane plane = new Plane("P1", "B737", 5, 4); // 20 koltuk
+        SeatManager seatManager = new SeatManager();
+
+        seatManager.createSeats(plane, 2, 1000.0, 1.5);
+
+        int emptyBefore = seatManager.getAvailableSeatCount(plane);
+
+        // Bir koltuk rezerve et
+        Seat seat = seatManager.resolveSeatNumber(plane, "3A");
+        assertNotNull(seat);
+        assertFalse(seat.isReserved());
+
+        seat.makeReservation();
+
+        int emptyAfter = seatManager.getAvailableSeatCount(plane);
+
+        assertEquals(emptyBefore - 1, emptyAfter);
+    }
+
+    @Test
+    public void reserveSeat_throwsExceptionForInvalidSeat() {
+        Plane plane = new Plane("P1", "B737", 5, 4);
+        SeatManager seatManager = new SeatManager();
+        seatManager.createSeats(plane, 2, 1000.0, 1.5);
+
+        assertThrows(IllegalArgumentException.class, () -> {
+            seatManager.reserveSeat(plane, "99Z");
+        });
+    }
+
+    @Test
+    public void occupancyBitmap_followsReserveAndCancel() {
+        Plane plane = new Plane("P1", "B737", 5, 4);
+        SeatManager seatManager = new SeatManager();
+        Flight flight = new Flight("F001", new Route("IST", "ESB"), plane,
+                LocalDate.now().plusDays(1), LocalTime.of(9, 0), 60, 1000.0);
+        SeatInventory inventory = seatManager.createInventory(flight, 2, 1.5);
+
+        seatManager.resolveSeatNumber(flight, "2A").makeReservation();
+        seatManager.resolveSeatNumber(flight, "2C").makeReservation();
+
+        assertEquals(18, seatManager.getAvailableSeatCount(flight));
+        assertEquals(0b0101L, inventory.getOccupancy().getRowMask(1));
+
+        seatManager.resolveSeatNumber(flight, "2A").cancelReservation();
+
+        assertEquals(19, seatManager.getAvailableSeatCount(flight));
+        assertEquals(0b0100L, inventory.getOccupancy().getRowMask(1));
+    }
+
+    @Test
+    public void occupancyRowMask_coversRowsWiderThan64Columns() {
+        SeatOccupancy occupancy = new SeatOccupancy(2, 70);
+        assertEquals(2, occupancy.getWordsPerRow());
+
+        occupancy.tryClaim(1, 1);
+        occupancy.tryClaim(1, 66);
+
+        assertEquals(0b10L, occupancy.getRowMask(1));
+        assertEquals(0b100L, occupancy.getRowMask(1, 1));
+        assertArrayEquals(new long[] {0b10L, 0b100L}, occupancy.getRowMasks(1));
+        assertEquals(-1L, occupancy.getFullRowMask(0));
+        assertEquals(0b111111L, occupancy.getFullRowMask(1));
+        assertEquals(2, occupancy.findFreeRun(1, 64));
+        assertEquals(-1, occupancy.findFreeRun(1, 65));
+    }
+
+    @Test
+    public void flightsOnSamePlane_haveIndependentSeatInventories() {
+        Plane plane = new Plane("P1", "B737", 5, 4);
+        SeatManager seatManager = new SeatManager();
+
+        Flight morning = new Flight("F001", new Route("IST", "ESB"), plane,
+                LocalDate.now().plusDays(1), LocalTime.of(9, 0), 60, 1000.0);
+        Flight evening = new Flight("F002", new Route("ESB", "IST"), plane,
+                LocalDate.now().plusDays(1), LocalTime.of(19, 0), 60, 1000.0);
+
+        seatManager.createInventory(morning, 2, 1.5);
+        seatManager.createInventory(evening, 2, 1.5);
+
+        Seat seat = seatManager.resolveSeatNumber(morning, "1A");
+        assertEquals(SeatClass.BUSINESS, seat.getSeatClass());
+        seat.makeReservation();
+
+        assertTrue(seatManager.resolveSeatNumber(morning, "1A").isReserved());
+        assertFalse(seatManager.resolveSeatNumber(evening, "1A").isReserved());
+        assertEquals(19, seatManager.getAvailableSeatCount(morning));
+        assertEquals(20, seatManager.getAvailableSeatCount(evening));
+        assertSame(seatManager.getInventory(morning).getLayout(),
+                seatManager.getInventory(evening).getLayout());
+    }
+
+    @Test
+    public void resolveIndex_readsOccupancyWithoutSeatView() {
+        Plane plane = new Plane("P1", "B737", 5, 4);
+        SeatManager seatManager = new SeatManager();
+        Flight flight = new Flight("F001", new Route("IST", "ESB"), plane,
+                LocalDate.now().plusDays(1), LocalTime.of(9, 0), 60, 1000.0);
+        SeatInventory inventory = seatManager.createInventory(flight, 2, 1.5);
+
+        seatManager.resolveSeatNumber(flight, "3B").makeReservation();
+
+        int index = seatManager.resolveIndex(flight, "3b");
+        assertEquals(2 * 4 + 1, index);
+        assertTrue(inventory.isReserved(index));
+        assertFalse(inventory.isReserved(seatManager.resolveIndex(flight, "3C")));
+        assertEquals(-1, seatManager.resolveIndex(flight, "9Z"));
+    }
+
+    @Test
+    public void allocateAny_fillsClassThenReturnsNull() {
+        Plane plane = new Plane("P1", "B737", 5, 4);
+        SeatManager seatManager = new SeatManager();
+        Flight flight = new Flight("F001", new Route("IST", "ESB"), plane,
+                LocalDate.now().plusDays(1), LocalTime.of(9, 0), 60, 1000.0);
+        seatManager.createInventory(flight, 2, 1.5);
+
+        // 1B dolu olsun; ilk business koltuğu 1A, sonraki 1C olmalı
+        seatManager.resolveSeatNumber(flight, "1B").makeReservation();
+        assertEquals("1A", seatManager.allocateAny(flight, SeatClass.BUSINESS).getSeatNum());
+        assertEquals("1C", seatManager.allocateAny(flight, SeatClass.BUSINESS).getSeatNum());
+
+        for (int i = 0; i < 5; i++) {
+            Seat seat = seatManager.allocateAny(flight, SeatClass.BUSINESS);
+            assertEquals(SeatClass.BUSINESS, seat.getSeatClass());
+            assertTrue(seat.isReserved());
+        }
+        assertNull(seatManager.allocateAny(flight, SeatClass.BUSINESS));
+
+        // economy etkilenmemeli
+        assertEquals(12, seatManager.getAvailableSeatCount(flight));
+        assertEquals("3A", seatManager.nextFree(flight, 2).getSeatNum());
+        assertNull(seatManager.nextFree(flight, 1));
+        assertFalse(seatManager.freeSeatsIterator(flight, SeatClass.BUSINESS).hasNext());
+
+        // bırakılan koltuk tekrar bulunabilmeli
+        seatManager.resolveSeatNumber(flight, "2D").cancelReservation();
+        assertEquals("2D", seatManager.allocateAny(flight, SeatClass.BUSINESS).getSeatNum());
+    }
+
+    @Test
+    public void findAdjacentBlock_usesSingleRowThenNeighbouringRows() {
+        Plane plane = new Plane("P1", "A321", 4, 6);
+        SeatManager seatManager = new SeatManager();
+        Flight flight = new Flight("F001", new Route("IST", "ESB"), plane,
+                LocalDate.now().plusDays(1), LocalTime.of(9, 0), 60, 1000.0);
+        seatManager.createInventory(flight, 0, 1.5);
+
+        // Sıra 1: A B _ D _ _ dolu/boş → 3'lük boşluk yok ama 2'lik var (E-F)
+        for (String s : new String[]{"1A", "1B", "1D", "2A", "2C", "2E", "3B", "3E", "4B", "4E"}) {
+            seatManager.resolveSeatNumber(flight, s).makeReservation();
+        }
+
+        List<Seat> pair = seatManager.findAdjacentBlock(flight, SeatClass.ECONOMY, 2);
+        assertEquals("1E", pair.get(0).getSeatNum());
+        assertEquals("1F", pair.get(1).getSeatNum());
+
+        // Hiçbir sırada 3 bitişik boş yok → komşu sıralara bölünür; arka koltuk ön parçanın
+        // hizasında olmalı (1E-1F + 2F, kabinin öbür ucundaki 2B değil)
+        List<Seat> three = seatManager.findAdjacentBlock(flight, SeatClass.ECONOMY, 3);
+        assertEquals(3, three.size());
+        assertEquals("1E", three.get(0).getSeatNum());
+        assertEquals("1F", three.get(1).getSeatNum());
+        assertEquals("2F", three.get(2).getSeatNum());
+        for (Seat seat : three) {
+            assertFalse(seat.isReserved());
+        }
+
+        // 2F dolunca 1E-1F'nin arkasında boş yer kalmaz; çakışmayan 1E-1F + 2B kabul edilmez
+        seatManager.resolveSeatNumber(flight, "2F").makeReservation();
+        three = seatManager.findAdjacentBlock(flight, SeatClass.ECONOMY, 3);
+        assertEquals("2D", three.get(0).getSeatNum());
+        assertEquals("3C", three.get(1).getSeatNum());
+        assertEquals("3D", three.get(2).getSeatNum());
+        seatManager.resolveSeatNumber(flight, "2F").cancelReservation();
+
+        assertTrue(seatManager.canSeatTogether(flight, SeatClass.ECONOMY, 4));
+        assertFalse(seatManager.canSeatTogether(flight, SeatClass.ECONOMY, 5));
+        assertFalse(seatManager.canSeatTogether(flight, SeatClass.BUSINESS, 1));
+    }
+
+    @Test
+    public void seatNumberParsing_isLenientAndLabelsAreShared() {
+        assertEquals(11 * 6 + 2, SeatLabels.parseIndex("12C", 30, 6));
+        assertEquals(11 * 6 + 2, SeatLabels.parseIndex("  12c ", 30, 6));
+        assertEquals(-1, SeatLabels.parseIndex("0A", 30, 6));
+        assertEquals(-1, SeatLabels.parseIndex("31A", 30, 6));
+        assertEquals(-1, SeatLabels.parseIndex("12G", 30, 6));
+        assertEquals(-1, SeatLabels.parseIndex("1-A", 30, 6));
+        assertEquals(-1, SeatLabels.parseIndex("99999999999A", 30, 6));
+        assertEquals(-1, SeatLabels.parseIndex("C", 30, 6));
+
+        SeatManager seatManager = new SeatManager();
+        Plane plane = new Plane("P1", "A321", 30, 6);
+        Flight flight = new Flight("F001", new Route("IST", "ESB"), plane,
+                LocalDate.now().plusDays(1), LocalTime.of(9, 0), 60, 1000.0);
+        seatManager.createInventory(flight, 2, 1.5);
+        seatManager.createSeats(plane, 2, 1000.0, 1.5);
+
+        Seat fromFlight = seatManager.resolveSeatNumber(flight, "12c");
+        Seat fromPlane = seatManager.resolveSeatNumber(plane, " 12C");
+        assertEquals("12C", fromFlight.getSeatNum());
+        assertSame(fromFlight.getSeatNum(), fromPlane.getSeatNum());
+        assertNull(seatManager.resolveSeatNumber(flight, "31A"));
+    }
+    
+
+}